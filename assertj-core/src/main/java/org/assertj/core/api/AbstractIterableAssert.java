@@ -41,8 +41,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -68,6 +71,7 @@ import org.assertj.core.internal.ExtendedByTypesComparator;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.Objects;
+import org.assertj.core.internal.ParallelEvaluation;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.CheckReturnValue;
@@ -115,6 +119,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   protected Iterables iterables = Iterables.instance();
 
+  // null when the elements are evaluated sequentially
+  private Executor parallelExecutor;
+
   protected AbstractIterableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
 
@@ -999,7 +1006,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public AbstractListAssert<?, List<?>, Object, ObjectAssert<Object>> extracting(String propertyOrField) {
-    List<Object> values = FieldsOrPropertiesExtractor.extract(actual, byName(propertyOrField));
+    List<Object> values = extractValues(byName(propertyOrField));
     String extractedDescription = extractedDescriptionOf(propertyOrField);
     String description = mostRelevantDescription(info.description(), extractedDescription);
     return newListAssertInstanceForMethodsChangingElementType(values).as(description);
@@ -1047,7 +1054,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @CheckReturnValue
   public AbstractListAssert<?, List<?>, Object, ObjectAssert<Object>> extractingResultOf(String method) {
     // can't refactor by calling extractingResultOf(method, Object.class) as SoftAssertion would fail
-    List<Object> values = FieldsOrPropertiesExtractor.extract(actual, resultOf(method));
+    List<Object> values = extractValues(resultOf(method));
     String extractedDescription = extractedDescriptionOfMethod(method);
     String description = mostRelevantDescription(info.description(), extractedDescription);
     return newListAssertInstanceForMethodsChangingElementType(values).as(description);
@@ -1097,7 +1104,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @CheckReturnValue
   public <P> AbstractListAssert<?, List<? extends P>, P, ObjectAssert<P>> extractingResultOf(String method,
                                                                                              Class<P> extractedType) {
-    List<P> values = (List<P>) FieldsOrPropertiesExtractor.extract(actual, resultOf(method));
+    List<P> values = (List<P>) extractValues(resultOf(method));
     String extractedDescription = extractedDescriptionOfMethod(method);
     String description = mostRelevantDescription(info.description(), extractedDescription);
     return newListAssertInstanceForMethodsChangingElementType(values).as(description);
@@ -1187,7 +1194,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @CheckReturnValue
   public <P> AbstractListAssert<?, List<? extends P>, P, ObjectAssert<P>> extracting(String propertyOrField,
                                                                                      Class<P> extractingType) {
-    List<P> values = (List<P>) FieldsOrPropertiesExtractor.extract(actual, byName(propertyOrField));
+    List<P> values = (List<P>) extractValues(byName(propertyOrField));
     String extractedDescription = extractedDescriptionOf(propertyOrField);
     String description = mostRelevantDescription(info.description(), extractedDescription);
     return newListAssertInstanceForMethodsChangingElementType(values).as(description);
@@ -1279,7 +1286,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public AbstractListAssert<?, List<? extends Tuple>, Tuple, ObjectAssert<Tuple>> extracting(String... propertiesOrFields) {
-    List<Tuple> values = FieldsOrPropertiesExtractor.extract(actual, byName(propertiesOrFields));
+    List<Tuple> values = extractValues(byName(propertiesOrFields));
     String extractedDescription = extractedDescriptionOf(propertiesOrFields);
     String description = mostRelevantDescription(info.description(), extractedDescription);
     return newListAssertInstanceForMethodsChangingElementType(values).as(description);
@@ -1323,7 +1330,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   private <V> AbstractListAssert<?, List<? extends V>, V, ObjectAssert<V>> internalExtracting(Function<? super ELEMENT, V> extractor) {
     if (actual == null) throwAssertionError(shouldNotBeNull());
-    List<V> values = FieldsOrPropertiesExtractor.extract(actual, extractor);
+    List<V> values = extractValues(extractor);
     return newListAssertInstanceForMethodsChangingElementType(values);
   }
 
@@ -1608,9 +1615,9 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private <V> AbstractListAssert<?, List<? extends V>, V, ObjectAssert<V>> doFlatExtracting(Function<? super ELEMENT, ? extends Collection<V>> extractor) {
-    List<V> result = FieldsOrPropertiesExtractor.extract(actual, extractor).stream()
-                                                .flatMap(Collection::stream)
-                                                .collect(toList());
+    List<V> result = extractValues(extractor).stream()
+                                             .flatMap(Collection::stream)
+                                             .collect(toList());
     return newListAssertInstanceForMethodsChangingElementType(result);
   }
 
@@ -1682,9 +1689,12 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   // in order to avoid compiler warning in user code
   protected AbstractListAssert<?, List<?>, Object, ObjectAssert<Object>> flatExtractingForProxy(Function<? super ELEMENT, ?>[] extractors) {
     if (actual == null) throwAssertionError(shouldNotBeNull());
-    Stream<? extends ELEMENT> actualStream = stream(actual.spliterator(), false);
-    List<Object> result = actualStream.flatMap(element -> Stream.of(extractors).map(extractor -> extractor.apply(element)))
-                                      .collect(toList());
+    Function<ELEMENT, List<Object>> valuesExtractor = element -> Stream.of(extractors)
+                                                                       .map(extractor -> extractor.apply(element))
+                                                                       .collect(toList());
+    List<Object> result = extractValues(valuesExtractor).stream()
+                                                        .flatMap(List::stream)
+                                                        .collect(toList());
     return newListAssertInstanceForMethodsChangingElementType(result);
   }
 
@@ -1804,7 +1814,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   @CheckReturnValue
   public AbstractListAssert<?, List<?>, Object, ObjectAssert<Object>> flatExtracting(String fieldOrPropertyName) {
     List<Object> extractedValues = newArrayList();
-    List<?> extractedGroups = FieldsOrPropertiesExtractor.extract(actual, byName(fieldOrPropertyName));
+    List<?> extractedGroups = extractValues(byName(fieldOrPropertyName));
     for (Object group : extractedGroups) {
       // expecting group to be an iterable or an array
       if (isArray(group)) {
@@ -1886,7 +1896,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     Function<ELEMENT, Tuple> tupleExtractor = objectToExtractValueFrom -> new Tuple(Stream.of(extractors)
                                                                                           .map(extractor -> extractor.apply(objectToExtractValueFrom))
                                                                                           .toArray());
-    List<Tuple> tuples = stream(actual.spliterator(), false).map(tupleExtractor).collect(toList());
+    List<Tuple> tuples = extractValues(tupleExtractor);
     return newListAssertInstanceForMethodsChangingElementType(tuples);
   }
 
@@ -1969,7 +1979,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public AbstractListAssert<?, List<?>, Object, ObjectAssert<Object>> flatExtracting(String... fieldOrPropertyNames) {
-    List<Object> extractedValues = FieldsOrPropertiesExtractor.extract(actual, byName(fieldOrPropertyNames)).stream()
+    List<Object> extractedValues = extractValues(byName(fieldOrPropertyNames)).stream()
                                                               .flatMap(tuple -> tuple.toList().stream())
                                                               .collect(toList());
     return newListAssertInstanceForMethodsChangingElementType(extractedValues);
@@ -2802,6 +2812,10 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @CheckReturnValue
   public SELF filteredOn(Condition<? super ELEMENT> condition) {
+    if (parallelExecutor != null) {
+      checkArgument(condition != null, "The filter condition should not be null");
+      return internalFilteredOn(condition::matches);
+    }
     Filters<? extends ELEMENT> filter = filter((Iterable<? extends ELEMENT>) actual);
     Iterable<? extends ELEMENT> filteredIterable = filter.being(condition).get();
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
@@ -2896,11 +2910,56 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   private SELF internalFilteredOnAssertions(Consumer<? super ELEMENT> elementAssertions) {
     checkArgument(elementAssertions != null, "The element assertions should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(byPassingAssertions(elementAssertions))
-                                                                                  .collect(toList());
+    List<? extends ELEMENT> filteredIterable = filterElements(byPassingAssertions(elementAssertions));
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
 
+  /**
+   * Evaluates the functions, predicates and assertions of the following {@code extracting}, {@code map}, {@code flatMap},
+   * {@code flatExtracting}, {@code filteredOn(Predicate)}, {@code filteredOn(Condition)}, {@code filteredOnAssertions},
+   * {@code allSatisfy}, {@code anySatisfy}, {@code noneSatisfy}, {@code allMatch}, {@code anyMatch} and {@code noneMatch}
+   * calls in parallel on the {@link ForkJoinPool#commonPool() common pool}.
+   * <p>
+   * This is useful when the elements are numerous or expensive to evaluate, the results are the same as when evaluating the
+   * elements sequentially: extracted and filtered elements keep the {@code Iterable} order, assertion errors report the
+   * elements not satisfying the requirements in the {@code Iterable} order and when the evaluation fails on several elements,
+   * the error of the first of them is reported. {@code anySatisfy}, {@code anyMatch} and {@code noneMatch} stop evaluating
+   * the elements once the first one deciding the assertion is known.
+   * <p>
+   * The evaluated functions must be safe to call concurrently.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // expensive checks are run in parallel, tolkienCharacters order is kept
+   * assertThat(tolkienCharacters).inParallel()
+   *                              .filteredOn(character -&gt; isKnownInSilmarillion(character))
+   *                              .extracting(TolkienCharacter::getName)
+   *                              .containsExactly("Frodo", "Sam", "Merry");</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @see #inParallel(Executor)
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Same as {@link #inParallel()} but evaluates the elements with the given {@link Executor}.
+   * <p>
+   * Elements are recursively split in fork/join tasks when the executor is a {@link ForkJoinPool}, otherwise they are
+   * split in a few chunks per available processor, each chunk being submitted to the executor, for example to evaluate
+   * elements blocking on I/O with {@code Executors.newVirtualThreadPerTaskExecutor()}.
+   *
+   * @param executor the executor evaluating the elements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given executor is {@code null}.
+   */
+  @CheckReturnValue
+  public SELF inParallel(Executor executor) {
+    this.parallelExecutor = requireNonNull(executor, "The executor should not be null");
+    return myself;
+  }
+
   // navigable assertions
 
   /**
@@ -3170,8 +3229,10 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   private ELEMENT_ASSERT internalElement(int index) {
     isNotEmpty();
-    assertThat(index).describedAs(navigationDescription("check index validity"))
-                     .isBetween(0, IterableUtil.sizeOf(actual) - 1);
+    if (!hasElementAt(index)) {
+      assertThat(index).describedAs(navigationDescription("check index validity"))
+                       .isBetween(0, IterableUtil.sizeOf(actual) - 1);
+    }
     ELEMENT elementAtIndex;
     if (actual instanceof List<? extends ELEMENT> list) {
       elementAtIndex = list.get(index);
@@ -3186,6 +3247,17 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return toAssert(elementAtIndex, navigationDescription("element at index " + index));
   }
 
+  private boolean hasElementAt(int index) {
+    if (index < 0) return false;
+    if (actual instanceof Collection<?> collection && actual instanceof RandomAccess) return index < collection.size();
+    // the size of other iterables is not computed as it may require pulling all the elements of a stream
+    Iterator<? extends ELEMENT> actualIterator = actual.iterator();
+    for (int i = 0; i < index && actualIterator.hasNext(); i++) {
+      actualIterator.next();
+    }
+    return actualIterator.hasNext();
+  }
+
   /**
    * Verifies that the {@link Iterable} under test contains a single element and allows to perform assertions on that element.
    * <p>
@@ -3324,7 +3396,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate) {
-    iterables.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    internalAllMatch(predicate, PredicateDescription.GIVEN);
     return myself;
   }
 
@@ -3333,7 +3405,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
-    iterables.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    internalAllMatch(predicate, new PredicateDescription(predicateDescription));
     return myself;
   }
 
@@ -3354,7 +3426,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private SELF internalAllSatisfy(Consumer<? super ELEMENT> requirements) {
-    iterables.assertAllSatisfy(info, actual, requirements);
+    if (parallelExecutor == null) iterables.assertAllSatisfy(info, actual, requirements);
+    else iterables.assertAllSatisfy(info, actual, requirements, parallelExecutor);
     return myself;
   }
 
@@ -3363,7 +3436,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF anyMatch(Predicate<? super ELEMENT> predicate) {
-    iterables.assertAnyMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    internalAnyMatch(predicate, PredicateDescription.GIVEN);
     return myself;
   }
 
@@ -3372,7 +3445,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF anyMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
-    iterables.assertAnyMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    internalAnyMatch(predicate, new PredicateDescription(predicateDescription));
     return myself;
   }
 
@@ -3427,7 +3500,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private SELF internalAnySatisfy(Consumer<? super ELEMENT> requirements) {
-    iterables.assertAnySatisfy(info, actual, requirements);
+    if (parallelExecutor == null) iterables.assertAnySatisfy(info, actual, requirements);
+    else iterables.assertAnySatisfy(info, actual, requirements, parallelExecutor);
     return myself;
   }
 
@@ -3448,7 +3522,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private SELF internalNoneSatisfy(Consumer<? super ELEMENT> restrictions) {
-    iterables.assertNoneSatisfy(info, actual, restrictions);
+    if (parallelExecutor == null) iterables.assertNoneSatisfy(info, actual, restrictions);
+    else iterables.assertNoneSatisfy(info, actual, restrictions, parallelExecutor);
     return myself;
   }
 
@@ -3677,13 +3752,13 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   @Override
   public SELF noneMatch(Predicate<? super ELEMENT> predicate) {
-    iterables.assertNoneMatch(info, actual, predicate, PredicateDescription.GIVEN);
+    internalNoneMatch(predicate, PredicateDescription.GIVEN);
     return myself;
   }
 
   @Override
   public SELF noneMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
-    iterables.assertNoneMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    internalNoneMatch(predicate, new PredicateDescription(predicateDescription));
     return myself;
   }
 
@@ -3780,7 +3855,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
       return (SELF) super.withAssertionState(assertInstance).withIterables(iterableAssert.iterables)
                                                             .withTypeComparators(iterableAssert.comparatorsByType)
                                                             .withComparatorsForElementPropertyOrFieldNames(iterableAssert.comparatorsForElementPropertyOrFieldNames)
-                                                            .withComparatorsForElementPropertyOrFieldTypes(iterableAssert.comparatorsForElementPropertyOrFieldTypes);
+                                                            .withComparatorsForElementPropertyOrFieldTypes(iterableAssert.comparatorsForElementPropertyOrFieldTypes)
+                                                            .withParallelExecutor(iterableAssert.parallelExecutor);
     }
     // we can go from ObjectArrayAssert -> IterableAssert when using extracting on an object array
     if (assertInstance instanceof AbstractObjectArrayAssert objectArrayAssert) {
@@ -3792,6 +3868,11 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return super.withAssertionState(assertInstance);
   }
 
+  SELF withParallelExecutor(Executor parallelExecutor) {
+    this.parallelExecutor = parallelExecutor;
+    return myself;
+  }
+
   SELF withIterables(Iterables iterables) {
     this.iterables = iterables;
     return myself;
@@ -3814,7 +3895,32 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
 
   private SELF internalFilteredOn(Predicate<? super ELEMENT> predicate) {
     checkArgument(predicate != null, "The filter predicate should not be null");
-    List<? extends ELEMENT> filteredIterable = stream(actual.spliterator(), false).filter(predicate).collect(toList());
+    List<? extends ELEMENT> filteredIterable = filterElements(predicate);
     return newAbstractIterableAssert(filteredIterable).withAssertionState(myself);
   }
+
+  private void internalAllMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (parallelExecutor == null) iterables.assertAllMatch(info, actual, predicate, predicateDescription);
+    else iterables.assertAllMatch(info, actual, predicate, predicateDescription, parallelExecutor);
+  }
+
+  private void internalAnyMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (parallelExecutor == null) iterables.assertAnyMatch(info, actual, predicate, predicateDescription);
+    else iterables.assertAnyMatch(info, actual, predicate, predicateDescription, parallelExecutor);
+  }
+
+  private void internalNoneMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (parallelExecutor == null) iterables.assertNoneMatch(info, actual, predicate, predicateDescription);
+    else iterables.assertNoneMatch(info, actual, predicate, predicateDescription, parallelExecutor);
+  }
+
+  private <V> List<V> extractValues(Function<? super ELEMENT, V> extractor) {
+    if (parallelExecutor == null || actual == null) return FieldsOrPropertiesExtractor.extract(actual, extractor);
+    return ParallelEvaluation.map(newArrayList(actual), extractor, parallelExecutor);
+  }
+
+  private List<? extends ELEMENT> filterElements(Predicate<? super ELEMENT> predicate) {
+    if (parallelExecutor == null) return stream(actual.spliterator(), false).filter(predicate).collect(toList());
+    return ParallelEvaluation.filter(newArrayList(actual), predicate, parallelExecutor);
+  }
 }
@@ -100,6 +100,7 @@ import org.assertj.core.data.TemporalUnitWithinOffset;
 import org.assertj.core.description.Description;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.BinaryRepresentation;
 import org.assertj.core.presentation.HexadecimalRepresentation;
 import org.assertj.core.presentation.Representation;
@@ -1838,6 +1839,49 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
   }
 
+  /**
+   * Enable/disable building the error messages of failed assertions only when they are requested (disabled by default).
+   * <p>
+   * Formatting an error message can be costly, when enabled failed assertions throw errors capturing what is needed to build
+   * their message and build it the first time {@link AssertionError#getMessage()} is called. This mostly benefits soft
+   * assertions collecting many errors whose messages are not all read.
+   * <p>
+   * Beware that the message reflects the state of the actual value when it is built, if the actual value is mutated after
+   * the assertion failed, the message describes the mutated value.
+   * <p>
+   * Errors reporting differences between actual and expected values, like {@code isEqualTo}, are not deferred as test
+   * frameworks read their actual and expected values to display a diff.
+   *
+   * @param deferErrorMessages whether to build the error messages of failed assertions only when requested.
+   * @since 4.0.0
+   * @see Configuration
+   */
+  public static void setDeferErrorMessages(boolean deferErrorMessages) {
+    Failures.instance().setDeferErrorMessages(deferErrorMessages);
+  }
+
+  /**
+   * Sets the maximum number of failures displayed in the error message reporting multiple failures, by default all are
+   * displayed.
+   * <p>
+   * The failures not displayed are still reported by {@code getFailures()}, the error message only mentions how many were not
+   * displayed, for example with {@code setMaxFailuresDisplayed(2)}:
+   * <pre><code class='text'> Multiple Failures (3 failures)
+   * -- failure 1 --
+   * Expecting actual: ...
+   * -- failure 2 --
+   * Expecting actual: ...
+   * ...(1 remaining failure not displayed - this can be changed with Assertions.setMaxFailuresDisplayed)</code></pre>
+   *
+   * @param maxFailuresDisplayed the maximum number of failures displayed, must be greater or equal to 1.
+   * @throws IllegalArgumentException if {@code maxFailuresDisplayed} is less than 1.
+   * @since 4.0.0
+   * @see Configuration
+   */
+  public static void setMaxFailuresDisplayed(int maxFailuresDisplayed) {
+    StandardRepresentation.setMaxFailuresDisplayed(maxFailuresDisplayed);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
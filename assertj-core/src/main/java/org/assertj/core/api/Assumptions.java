@@ -23,8 +23,6 @@ import static org.assertj.core.util.Arrays.array;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -115,6 +113,8 @@ public class Assumptions {
 
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
+  private static final ProxyConstructors PROXY_CONSTRUCTORS = new ProxyConstructors(Assumptions::createAssumptionClass);
+
   private static final class AssumptionMethodInterceptor {
 
     @RuntimeType
@@ -1575,21 +1575,14 @@ public class Assumptions {
   private static <ASSERTION> ASSERTION asAssumption(Class<ASSERTION> assertionType,
                                                     Class<?>[] constructorTypes,
                                                     Object... constructorParams) {
-    try {
-      Class<? extends ASSERTION> type = createAssumptionClass(assertionType);
-      Constructor<? extends ASSERTION> constructor = type.getConstructor(constructorTypes);
-      return constructor.newInstance(constructorParams);
-    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException e) {
-      throw new RuntimeException(e);
-    }
+    return PROXY_CONSTRUCTORS.newProxy(assertionType, constructorTypes, constructorParams);
   }
 
-  @SuppressWarnings("unchecked")
-  private static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
+  private static Class<?> createAssumptionClass(Class<?> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<ASSERTION>) CACHE.findOrInsert(assertClass.getClassLoader(),
-                                                 cacheKey,
-                                                 () -> generateAssumptionClass(assertClass));
+    return CACHE.findOrInsert(assertClass.getClassLoader(),
+                              cacheKey,
+                              () -> generateAssumptionClass(assertClass));
   }
 
   protected static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
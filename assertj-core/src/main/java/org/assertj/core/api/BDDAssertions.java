@@ -2297,6 +2297,33 @@ public class BDDAssertions extends Assertions {
     Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
   }
 
+  /**
+   * Enable/disable building the error messages of failed assertions only when they are requested (disabled by default).
+   * <p>
+   * See {@link Assertions#setDeferErrorMessages(boolean)} for a detailed description.
+   *
+   * @param deferErrorMessages whether to build the error messages of failed assertions only when requested.
+   * @since 4.0.0
+   * @see Configuration
+   */
+  public static void setDeferErrorMessages(boolean deferErrorMessages) {
+    Assertions.setDeferErrorMessages(deferErrorMessages);
+  }
+
+  /**
+   * Sets the maximum number of failures displayed in the error message reporting multiple failures, by default all are
+   * displayed.
+   * <p>
+   * See {@link Assertions#setMaxFailuresDisplayed(int)} for a detailed description.
+   *
+   * @param maxFailuresDisplayed the maximum number of failures displayed, must be greater or equal to 1.
+   * @since 4.0.0
+   * @see Configuration
+   */
+  public static void setMaxFailuresDisplayed(int maxFailuresDisplayed) {
+    Assertions.setMaxFailuresDisplayed(maxFailuresDisplayed);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -12,12 +12,14 @@
  */
 package org.assertj.core.api;
 
-import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.assertj.core.util.Throwables;
 
@@ -26,9 +28,11 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   // Marking this field as volatile doesn't ensure complete thread safety
   // (mutual exclusion, race-free behavior), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
-  private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  // errors are collected without locking, soft assertions may fail many times and from different threads
+  private final Queue<AssertionError> collectedAssertionErrors = new ConcurrentLinkedQueue<>();
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  // callbacks are rarely registered but called for each collected error, which does not lock
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
 
   private AssertionErrorCollector delegate = null;
 
@@ -72,7 +76,7 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   public List<AssertionError> assertionErrorsCollected() {
     List<AssertionError> errors = delegate != null
         ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+        : unmodifiableList(new ArrayList<>(collectedAssertionErrors));
     return decorateErrorsCollected(errors);
   }
 
@@ -13,7 +13,6 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
@@ -28,8 +27,8 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercept calls in progress in each thread, a nested call lets the outermost one collect the assertion error
+  private static final ThreadLocal<int[]> INTERCEPT_CALLS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -52,16 +51,20 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int[] interceptCallsDepth = INTERCEPT_CALLS_DEPTH.get();
+    interceptCallsDepth[0]++;
     try {
       Object result = proxy.call();
       errorCollector.succeeded();
       return result;
     } catch (AssertionError assertionError) {
-      if (isNestedErrorCollectorProxyCall()) {
+      if (interceptCallsDepth[0] > 1) {
         // let the most outer call handle the assertion error
         throw assertionError;
       }
       errorCollector.addError(assertionError);
+    } finally {
+      interceptCallsDepth[0]--;
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -78,15 +81,4 @@ public class ErrorCollector {
   private void succeeded() {
     assertionErrorCollector.succeeded();
   }
-
-  private static boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
-  }
-
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
-  }
 }
@@ -12,8 +12,6 @@
  */
 package org.assertj.core.api;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.Iterator;
 
 import org.assertj.core.util.Streams;
@@ -49,8 +47,9 @@ public class IterableAssert<ELEMENT> extends
     return new IterableAssert<>(actual);
   }
 
+  // the iterator elements are pulled when accessed by the assertions
   static <T> Iterable<T> toIterable(Iterator<T> iterator) {
-    return Streams.stream(iterator).collect(toList());
+    return new ListAssert.ListFromStream<>(Streams.stream(iterator));
   }
 
 }
@@ -12,18 +12,24 @@
  */
 package org.assertj.core.api;
 
+import static java.util.Spliterator.ORDERED;
 import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
 import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.BaseStream;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.internal.Failures;
 
@@ -198,8 +204,7 @@ public class ListAssert<ELEMENT> extends
     }
     objects.assertNotNull(info, actual);
     checkIsNotNull(sequence);
-    // NO SUPPORT FOR infinite streams as it prevents chaining other assertions afterward, it requires to consume the
-    // Stream partially, if you chain another assertion, the stream is already consumed.
+    // only the elements compared to the sequence are pulled from the stream, which can be infinite
     Iterator<? extends ELEMENT> iterator = asListFromStream().stream().iterator();
     if (sequence.length == 0 && iterator.hasNext()) throw new AssertionError("actual is not empty");
     int i = 0;
@@ -226,9 +231,22 @@ public class ListAssert<ELEMENT> extends
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  /**
+   * A list pulling the elements of a stream only when they are accessed, assertions deciding their outcome on the first
+   * elements don't consume the rest of the stream, which can be infinite.
+   * <p>
+   * The pulled elements are kept for the assertions chained afterward as the stream can only be consumed once, assertions
+   * needing all the elements (size, equality, ...) consume the whole stream.
+   * <p>
+   * The stream is only closed once exhausted, closing it earlier would release the source of streams like {@code Files.lines}
+   * that the assertions chained afterward may still read.
+   */
   static class ListFromStream<ELEMENT, STREAM extends BaseStream<ELEMENT, STREAM>> extends AbstractList<ELEMENT> {
     private BaseStream<ELEMENT, STREAM> stream;
-    private List<ELEMENT> list;
+    private final List<ELEMENT> pulledElements = new ArrayList<>();
+    // created on the first pull as BaseStream.iterator() is a terminal operation
+    private Iterator<ELEMENT> streamIterator;
+    private boolean streamExhausted;
 
     public ListFromStream(BaseStream<ELEMENT, STREAM> stream) {
       this.stream = stream;
@@ -236,28 +254,65 @@ public class ListAssert<ELEMENT> extends
 
     @Override
     public Stream<ELEMENT> stream() {
-      initList();
-      return list.stream();
+      return StreamSupport.stream(spliterator(), false);
     }
 
-    private List<ELEMENT> initList() {
-      if (list == null) {
-        list = newArrayList(stream.iterator());
-        stream.close();
+    @Override
+    public Spliterator<ELEMENT> spliterator() {
+      return streamExhausted ? pulledElements.spliterator() : Spliterators.spliteratorUnknownSize(iterator(), ORDERED);
+    }
+
+    @Override
+    public Iterator<ELEMENT> iterator() {
+      return new Iterator<>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return pullUpTo(index);
+        }
+
+        @Override
+        public ELEMENT next() {
+          if (!hasNext()) throw new NoSuchElementException();
+          return pulledElements.get(index++);
+        }
+      };
+    }
+
+    /**
+     * Pulls the stream elements up to the given index.
+     *
+     * @return whether the stream has an element at the given index.
+     */
+    private boolean pullUpTo(int index) {
+      while (index >= pulledElements.size() && !streamExhausted) {
+        if (streamIterator == null) streamIterator = stream.iterator();
+        if (streamIterator.hasNext()) {
+          pulledElements.add(streamIterator.next());
+        } else {
+          streamExhausted = true;
+          stream.close();
+        }
       }
-      return list;
+      return index < pulledElements.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return !pullUpTo(0);
     }
 
     @Override
     public int size() {
-      initList();
-      return list.size();
+      pullUpTo(Integer.MAX_VALUE);
+      return pulledElements.size();
     }
 
     @Override
     public ELEMENT get(int index) {
-      initList();
-      return list.get(index);
+      pullUpTo(index);
+      return pulledElements.get(index);
     }
 
   }
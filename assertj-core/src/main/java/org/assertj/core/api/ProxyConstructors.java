@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Instantiates the proxy classes generated for assert classes, like soft assertions and assumptions proxies.
+ * <p>
+ * The proxy class constructor taking the given parameter types is looked up once per assert class and kept as a method
+ * handle, the proxy class is only looked up or generated when instantiating the first proxy of an assert class.
+ */
+final class ProxyConstructors {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  // all constructors are adapted to this type to be invoked with invokeExact
+  private static final MethodType CONSTRUCTOR_TYPE = methodType(Object.class, Object[].class);
+
+  private final Function<Class<?>, Class<?>> proxyClassFactory;
+  private final ClassValue<Map<List<Class<?>>, MethodHandle>> constructorsByAssertClass = new ClassValue<>() {
+    @Override
+    protected Map<List<Class<?>>, MethodHandle> computeValue(Class<?> assertClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  /**
+   * @param proxyClassFactory returns the proxy class of the given assert class
+   */
+  ProxyConstructors(Function<Class<?>, Class<?>> proxyClassFactory) {
+    this.proxyClassFactory = proxyClassFactory;
+  }
+
+  /**
+   * Creates a proxy of the given assert class with its constructor taking the given parameter types.
+   *
+   * @throws RuntimeException if the constructor can't be found or if it fails
+   */
+  @SuppressWarnings("unchecked")
+  <T> T newProxy(Class<T> assertClass, Class<?>[] parameterTypes, Object... arguments) {
+    MethodHandle constructor = constructorsByAssertClass.get(assertClass)
+                                                        .computeIfAbsent(List.of(parameterTypes),
+                                                                         types -> proxyConstructor(assertClass, parameterTypes));
+    try {
+      return (T) (Object) constructor.invokeExact(arguments);
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  private MethodHandle proxyConstructor(Class<?> assertClass, Class<?>[] parameterTypes) {
+    Class<?> proxyClass = proxyClassFactory.apply(assertClass);
+    try {
+      return LOOKUP.unreflectConstructor(proxyClass.getConstructor(parameterTypes))
+                   .asSpreader(Object[].class, parameterTypes.length)
+                   .asType(CONSTRUCTOR_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}
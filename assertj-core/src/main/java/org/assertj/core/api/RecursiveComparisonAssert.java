@@ -1209,9 +1209,14 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
   /**
    * Makes the recursive comparison to ignore collection order in all fields of the object under test.
    * <p>
-   * <b>Important:</b> ignoring collection order has a high performance cost because each element of the actual collection must
-   * be compared to each element of the expected collection which is an O(n&sup2;) operation. For example with a collection of 100
-   * elements, the number of comparisons is 100x100 = 10 000!
+   * Each actual element can only match one expected element, duplicates must thus appear the same number of times in both
+   * collections, for example {@code [a, b]} and {@code [a, a]} are not considered equal even though all the expected elements
+   * can be found in the actual collection.
+   * <p>
+   * <b>Important:</b> ignoring collection order has a performance cost: actual elements are grouped by a hash of their compared
+   * fields to find the ones likely to match an expected element, but when this does not help (for example with custom comparators)
+   * each element of the actual collection must be compared to each element of the expected collection which is an O(n&sup2;)
+   * operation. For example with a collection of 100 elements, the number of comparisons is 100x100 = 10 000!
    * <p>
    * Example:
    * <pre><code class='java'> class Person {
@@ -19,9 +19,8 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
+import static org.assertj.core.util.Arrays.array;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair;
@@ -112,6 +111,7 @@ class SoftProxies {
   private static final Implementation ERROR_COLLECTOR = MethodDelegation.to(ErrorCollector.class);
 
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+  private static final ProxyConstructors PROXY_CONSTRUCTORS = new ProxyConstructors(SoftProxies::createSoftAssertionProxyClass);
 
   private ErrorCollector collector;
 
@@ -122,86 +122,45 @@ class SoftProxies {
   <SELF extends Assert<? extends SELF, ? extends ACTUAL>, ACTUAL> SELF createSoftAssertionProxy(Class<SELF> assertClass,
                                                                                                 Class<ACTUAL> actualClass,
                                                                                                 ACTUAL actual) {
-    try {
-      Class<? extends SELF> proxyClass = createSoftAssertionProxyClass(assertClass);
-      Constructor<? extends SELF> constructor = proxyClass.getConstructor(actualClass);
-      SELF proxiedAssert = constructor.newInstance(actual);
-      // instance is a AssertJProxySetup since it is a generated proxy implementing it (see createProxy)
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
-      throw new RuntimeException(e);
-    }
+    return setUpProxy(PROXY_CONSTRUCTORS.newProxy(assertClass, array(actualClass), actual));
   }
 
-  @SuppressWarnings("unchecked")
-  private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
+  private static Class<?> createSoftAssertionProxyClass(Class<?> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
-    return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
-                                              () -> generateProxyClass(assertClass));
+    return CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey, () -> generateProxyClass(assertClass));
   }
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(FileSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractFileAssert.class);
-      FileSizeAssert<?> proxiedAssert = (FileSizeAssert<?>) constructor.newInstance(fileSizeAssert.returnToFile());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return setUpProxy(PROXY_CONSTRUCTORS.newProxy(FileSizeAssert.class, array(AbstractFileAssert.class),
+                                                  fileSizeAssert.returnToFile()));
   }
 
   BigDecimalScaleAssert<?> createBigDecimalScaleAssertProxy(BigDecimalScaleAssert<?> bigDecimalScaleAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(BigDecimalScaleAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractBigDecimalAssert.class);
-      BigDecimalScaleAssert<?> proxiedAssert = (BigDecimalScaleAssert<?>) constructor.newInstance(bigDecimalScaleAssert.returnToBigDecimal());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return setUpProxy(PROXY_CONSTRUCTORS.newProxy(BigDecimalScaleAssert.class, array(AbstractBigDecimalAssert.class),
+                                                  bigDecimalScaleAssert.returnToBigDecimal()));
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(IterableSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractIterableAssert.class, Integer.class);
-      IterableSizeAssert<?> proxiedAssert = (IterableSizeAssert<?>) constructor.newInstance(iterableSizeAssert.returnToIterable(),
-                                                                                            iterableSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return setUpProxy(PROXY_CONSTRUCTORS.newProxy(IterableSizeAssert.class, array(AbstractIterableAssert.class, Integer.class),
+                                                  iterableSizeAssert.returnToIterable(), iterableSizeAssert.actual));
   }
 
   MapSizeAssert<?, ?> createMapSizeAssertProxy(MapSizeAssert<?, ?> mapSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(MapSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractMapAssert.class, Integer.class);
-      MapSizeAssert<?, ?> proxiedAssert = (MapSizeAssert<?, ?>) constructor.newInstance(mapSizeAssert.returnToMap(),
-                                                                                        mapSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return setUpProxy(PROXY_CONSTRUCTORS.newProxy(MapSizeAssert.class, array(AbstractMapAssert.class, Integer.class),
+                                                  mapSizeAssert.returnToMap(), mapSizeAssert.actual));
   }
 
   RecursiveComparisonAssert<?> createRecursiveComparisonAssertProxy(RecursiveComparisonAssert<?> recursiveComparisonAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(RecursiveComparisonAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(Object.class, RecursiveComparisonConfiguration.class);
-      RecursiveComparisonAssert<?> proxiedAssert = (RecursiveComparisonAssert<?>) constructor.newInstance(recursiveComparisonAssert.actual,
-                                                                                                          recursiveComparisonAssert.getRecursiveComparisonConfiguration());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return setUpProxy(PROXY_CONSTRUCTORS.newProxy(RecursiveComparisonAssert.class,
+                                                  array(Object.class, RecursiveComparisonConfiguration.class),
+                                                  recursiveComparisonAssert.actual,
+                                                  recursiveComparisonAssert.getRecursiveComparisonConfiguration()));
+  }
+
+  private <T> T setUpProxy(T proxiedAssert) {
+    // instance is a AssertJProxySetup since it is a generated proxy implementing it (see generateProxyClass)
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
   }
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
@@ -13,7 +13,10 @@
 package org.assertj.core.api.recursive;
 
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.internal.FieldLocationMatcher.matchingFieldsAndTheirChildren;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.ArrayList;
@@ -25,6 +28,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.assertj.core.api.RecursiveComparisonAssert;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.assertj.core.internal.FieldLocationMatcher;
 import org.assertj.core.util.Strings;
 
 public abstract class AbstractRecursiveOperationConfiguration {
@@ -35,6 +39,9 @@ public abstract class AbstractRecursiveOperationConfiguration {
   private final List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
   private final Set<Class<?>> ignoredTypes = new LinkedHashSet<>();
   private final List<Pattern> ignoredTypesRegexes = new ArrayList<>();
+  // rebuilt when the ignored fields or regexes change
+  private FieldLocationMatcher ignoredFieldsMatcher = matchingFieldsAndTheirChildren(ignoredFields, emptyList());
+  private FieldLocationMatcher ignoredFieldsRegexesMatcher = matchingFieldsAndTheirChildren(emptySet(), ignoredFieldsRegexes);
 
   protected AbstractRecursiveOperationConfiguration(AbstractBuilder<?> builder) {
     ignoreFields(builder.ignoredFields);
@@ -56,6 +63,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<String> fieldLocations = list(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    ignoredFieldsMatcher = matchingFieldsAndTheirChildren(ignoredFields, emptyList());
   }
 
   /**
@@ -77,6 +85,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFieldsMatchingRegexes(String... regexes) {
     List<Pattern> patterns = toPatterns(regexes);
     ignoredFieldsRegexes.addAll(patterns);
+    ignoredFieldsRegexesMatcher = matchingFieldsAndTheirChildren(emptySet(), ignoredFieldsRegexes);
   }
 
   public List<Pattern> getIgnoredFieldsRegexes() {
@@ -184,12 +193,12 @@ public abstract class AbstractRecursiveOperationConfiguration {
 
   public boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFieldsRegexes().stream().anyMatch(fieldLocation::hierarchyMatchesRegex);
+    return ignoredFieldsRegexesMatcher.matches(fieldLocation);
   }
 
   public boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFields().stream().anyMatch(fieldLocation::hierarchyMatches);
+    return ignoredFieldsMatcher.matches(fieldLocation);
   }
 
   private String describeIgnoredFields() {
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The children nodes of a class as seen by an introspection strategy: their names and the accessors reading their values.
+ * <p>
+ * Accessors are resolved on the first read of a child node and kept, a child node without accessor is read the usual way by
+ * the introspection strategy, which reports the same errors as before when the value can't be read.
+ */
+final class ClassShape {
+
+  // all accessors are adapted to this type to be invoked with invokeExact
+  private static final MethodType ACCESSOR_TYPE = methodType(Object.class, Object.class);
+
+  private final Set<String> childrenNodeNames;
+  private final Function<String, Optional<Accessor>> accessorResolver;
+  // use ConcurrentHashMap in case the strategy instance is used in a multi-thread context
+  private final Map<String, Optional<Accessor>> accessorByChildNodeName = new ConcurrentHashMap<>();
+
+  ClassShape(Set<String> childrenNodeNames, Function<String, Optional<Accessor>> accessorResolver) {
+    this.childrenNodeNames = childrenNodeNames;
+    this.accessorResolver = accessorResolver;
+  }
+
+  Set<String> childrenNodeNames() {
+    return childrenNodeNames;
+  }
+
+  /**
+   * Returns the accessor of the given child node or null if it could not be resolved.
+   */
+  Accessor accessorOf(String childNodeName) {
+    return accessorByChildNodeName.computeIfAbsent(childNodeName, accessorResolver).orElse(null);
+  }
+
+  static final class Accessor {
+
+    private final MethodHandle handle;
+    private final boolean isPublic;
+
+    Accessor(MethodHandle handle, boolean isPublic) {
+      this.handle = handle.asType(ACCESSOR_TYPE);
+      this.isPublic = isPublic;
+    }
+
+    boolean isPublic() {
+      return isPublic;
+    }
+
+    /**
+     * Reads the child node value of the given instance, like reflection does the exception thrown when reading it is wrapped in
+     * an {@link InvocationTargetException}.
+     */
+    Object read(Object instance) throws InvocationTargetException {
+      try {
+        return (Object) handle.invokeExact(instance);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    }
+  }
+
+}
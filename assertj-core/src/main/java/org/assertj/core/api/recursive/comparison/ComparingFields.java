@@ -12,36 +12,84 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.api.recursive.comparison.ClassShape.Accessor;
 import org.assertj.core.internal.Objects;
 import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.IntrospectionError;
 
 /**
  * A {@link RecursiveComparisonIntrospectionStrategy} that introspects fields including inherited ones but ignores static and
  * synthetic fields.
+ * <p>
+ * The fields of each compared class are resolved once and read with method handles, fields that can't be resolved that way are
+ * read with {@link FieldSupport#comparison()}.
  */
 public class ComparingFields implements RecursiveComparisonIntrospectionStrategy {
 
   public static final ComparingFields COMPARING_FIELDS = new ComparingFields();
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
-  private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ClassShape> shapePerClass = new ConcurrentHashMap<>();
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
     if (node == null) return new HashSet<>();
-    return fieldNamesPerClass.computeIfAbsent(node.getClass(), Objects::getFieldsNames);
+    return shapeOf(node.getClass()).childrenNodeNames();
   }
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
+    if (instance != null) {
+      Accessor accessor = shapeOf(instance.getClass()).accessorOf(childNodeName);
+      // the private fields usage can be changed at any time, check it on each read
+      if (accessor != null && (accessor.isPublic() || FieldSupport.comparison().isAllowedToUsePrivateFields())) {
+        try {
+          return accessor.read(instance);
+        } catch (InvocationTargetException e) {
+          // same error as the one reported by FieldSupport
+          String message = "Unable to obtain the value of the field <'%s'> from <%s>".formatted(childNodeName, instance);
+          throw new IntrospectionError(message, e.getTargetException());
+        }
+      }
+    }
     return FieldSupport.comparison().fieldValue(childNodeName, Object.class, instance);
   }
 
+  private ClassShape shapeOf(Class<?> clazz) {
+    return shapePerClass.computeIfAbsent(clazz, type -> new ClassShape(Objects.getFieldsNames(type),
+                                                                       fieldName -> fieldAccessor(type, fieldName)));
+  }
+
+  // same lookup as FieldSupport: the first field declared in the class hierarchy, static and synthetic fields can't be read
+  private static Optional<Accessor> fieldAccessor(Class<?> clazz, String fieldName) {
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+      try {
+        Field field = type.getDeclaredField(fieldName);
+        if (isStatic(field.getModifiers()) || field.isSynthetic()) return Optional.empty();
+        field.setAccessible(true);
+        return Optional.of(new Accessor(MethodHandles.lookup().unreflectGetter(field), isPublic(field.getModifiers())));
+      } catch (@SuppressWarnings("unused") NoSuchFieldException e) {
+        // look in the superclass
+      } catch (@SuppressWarnings("unused") RuntimeException | IllegalAccessException e) {
+        // the field is not accessible, FieldSupport will report it
+        return Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
   @Override
   public String getDescription() {
     return "comparing fields";
@@ -17,19 +17,26 @@ import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.assertj.core.api.recursive.comparison.ClassShape.Accessor;
+import org.assertj.core.util.introspection.Introspection;
 import org.assertj.core.util.introspection.PropertySupport;
 
 /**
  * A {@link RecursiveComparisonIntrospectionStrategy} that introspects properties by looking at public getters like
  * {@code getName()} or {@code isActive()}/{@code getActive()} for boolean properties.
+ * <p>
+ * The getters of each compared class are resolved once by {@link Introspection} and invoked with method handles, properties
+ * whose getter can't be resolved are read with {@link PropertySupport}.
  */
 public class ComparingProperties implements RecursiveComparisonIntrospectionStrategy {
 
@@ -39,17 +46,38 @@ public class ComparingProperties implements RecursiveComparisonIntrospectionStra
   private static final String IS_PREFIX = "is";
 
   // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
-  private final Map<Class<?>, Set<String>> propertiesNamesPerClass = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ClassShape> shapePerClass = new ConcurrentHashMap<>();
+  // the getters found depend on whether bare name property methods are allowed, keep the setting they were resolved with
+  private final Map<Class<?>, ClassShape> bareNameShapePerClass = new ConcurrentHashMap<>();
 
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
     if (node == null) return new HashSet<>();
-    return propertiesNamesPerClass.computeIfAbsent(node.getClass(), ComparingProperties::getPropertiesNamesOf);
+    return shapeOf(node.getClass()).childrenNodeNames();
   }
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return PropertySupport.instance().propertyValueOf(childNodeName, Object.class, instance);
+    if (instance == null) return null;
+    Accessor getter = shapeOf(instance.getClass()).accessorOf(childNodeName);
+    if (getter == null) return PropertySupport.instance().propertyValueOf(childNodeName, Object.class, instance);
+    try {
+      return getter.read(instance);
+    } catch (InvocationTargetException e) {
+      throw Introspection.propertyGetterInvocationError(childNodeName, instance, e);
+    }
+  }
+
+  private ClassShape shapeOf(Class<?> clazz) {
+    Map<Class<?>, ClassShape> shapes = Introspection.canExtractBareNamePropertyMethods() ? bareNameShapePerClass : shapePerClass;
+    return shapes.computeIfAbsent(clazz, type -> new ClassShape(getPropertiesNamesOf(type),
+                                                                propertyName -> getterAccessor(type, propertyName)));
+  }
+
+  // the getter is resolved and kept by Introspection, getters that can't be resolved are reported by PropertySupport
+  private static Optional<Accessor> getterAccessor(Class<?> clazz, String propertyName) {
+    if (propertyName.isEmpty()) return Optional.empty();
+    return Introspection.findPropertyGetterHandle(propertyName, clazz).map(handle -> new Accessor(handle, true));
   }
 
   @Override
@@ -12,45 +12,64 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newLinkedHashSet;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
  * Represents the path to a given field. Immutable
+ * <p>
+ * A field location only references its parent location and its own field name, creating a child location does not copy the
+ * parent path. The paths used in rules and in error reports are computed when first needed.
  */
 // TODO should understand Map keys as field
 // TODO rename to FieldPath?
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
-  private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  private static final FieldLocation ROOT = new FieldLocation(null, null);
+
+  // null for the root location
+  private final FieldLocation parent;
+  private final String name;
+  private final int hashCode;
+  // computed lazily
+  private String pathToUseInRules;
+  private List<String> decomposedPath;
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    this(parentOf(requireNonNull(path, "path cannot be null")), path.isEmpty() ? null : path.get(path.size() - 1));
   }
 
   public FieldLocation(String s) {
     this(list(s.split("\\.")));
   }
 
+  private FieldLocation(FieldLocation parent, String name) {
+    this.parent = parent;
+    this.name = name;
+    this.hashCode = computeHashCode();
+  }
+
+  private static FieldLocation parentOf(List<String> path) {
+    if (path.isEmpty()) return null;
+    FieldLocation parent = ROOT;
+    for (String field : path.subList(0, path.size() - 1)) {
+      parent = parent.field(field);
+    }
+    return parent;
+  }
+
+  private int computeHashCode() {
+    return 31 * Objects.hashCode(parent) + Objects.hashCode(name);
+  }
+
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
@@ -58,42 +77,38 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+    // locations built from a common parent share it, in that case comparing the parents is a reference comparison
+    return hashCode == that.hashCode && Objects.equals(name, that.name) && Objects.equals(parent, that.parent);
   }
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(pathToUseInRules);
-    result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
-    return result;
+    return hashCode;
   }
 
   @Override
   public String toString() {
-    return "<%s>".formatted(pathToUseInRules);
+    return "<%s>".formatted(getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
-  private static String pathToUseInRules(List<String> path) {
+  private String computePathToUseInRules() {
+    if (parent == null) return "";
     // remove the array sub-path, so person.children.[2].name -> person.children.name
     // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining(FIELD_SEPARATOR));
+    if (name.startsWith("[")) return parent.getPathToUseInRules();
+    return parent.getPathToUseInRulesForChildField(name);
   }
 
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -120,7 +135,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    return !isRootPath(fieldPath) && isPathOrChildPath(getPathToUseInRules(), fieldPath);
   }
 
   /**
@@ -148,53 +163,81 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    // try matching from the longest to the shortest path
+    String currentPath = getPathToUseInRules();
+    while (!isRootPath(currentPath)) {
+      if (regex.matcher(currentPath).matches()) return true;
+      currentPath = parent(currentPath);
+    }
+    return false;
   }
 
   public List<String> getDecomposedPath() {
-    return decomposedPath;
+    List<String> path = decomposedPath;
+    if (path == null) {
+      String[] fields = new String[depth()];
+      FieldLocation location = this;
+      for (int i = fields.length - 1; i >= 0; i--) {
+        fields[i] = location.name;
+        location = location.parent;
+      }
+      path = List.of(fields);
+      decomposedPath = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRules() {
-    return pathToUseInRules;
+    String path = pathToUseInRules;
+    if (path == null) {
+      path = computePathToUseInRules();
+      pathToUseInRules = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRulesForChildField(String fieldName) {
-    return pathToUseInRules.isEmpty() ? fieldName : pathToUseInRules + FIELD_SEPARATOR + fieldName;
+    String path = getPathToUseInRules();
+    return path.isEmpty() ? fieldName : path + FIELD_SEPARATOR + fieldName;
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(FIELD_SEPARATOR, decomposedPath);
+    return String.join(FIELD_SEPARATOR, getDecomposedPath());
   }
 
   public String getFieldName() {
-    if (decomposedPath.isEmpty()) return "";
-    return decomposedPath.get(decomposedPath.size() - 1);
+    return parent == null ? "" : name;
+  }
+
+  private int depth() {
+    int depth = 0;
+    for (FieldLocation location = this; location.parent != null; location = location.parent) {
+      depth++;
+    }
+    return depth;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
+    return isRootPath(getPathToUseInRules());
   }
 
-  private boolean isRootPath(String pathToUseInRules) {
+  private static boolean isRootPath(String pathToUseInRules) {
     return pathToUseInRules.isEmpty();
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(FIELD_SEPARATOR);
+    return !isRoot() && !getPathToUseInRules().contains(FIELD_SEPARATOR);
   }
 
   public static FieldLocation rootFieldLocation() {
-    return new FieldLocation(emptyList());
+    return ROOT;
   }
 
   /**
@@ -219,7 +262,9 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    */
   public boolean hasParent(FieldLocation parent) {
     // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + FIELD_SEPARATOR);
+    String path = getPathToUseInRules();
+    String parentPath = parent.getPathToUseInRules();
+    return path.length() > parentPath.length() && isPathOrChildPath(path, parentPath);
   }
 
   /**
@@ -247,19 +292,13 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
-    // using LinkedHashSet to maintain leaf to root iteration order
-    // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
-    Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
-    while (!isRootPath(currentPath)) {
-      fieldAndParentFields.add(currentPath);
-      currentPath = parent(currentPath);
-    }
-    return unmodifiableSet(fieldAndParentFields);
+  // true if path is fieldPath or one of its children
+  private static boolean isPathOrChildPath(String path, String fieldPath) {
+    return path.startsWith(fieldPath)
+           && (path.length() == fieldPath.length() || path.startsWith(FIELD_SEPARATOR, fieldPath.length()));
   }
 
-  private String parent(String currentPath) {
+  private static String parent(String currentPath) {
     int lastDot = currentPath.lastIndexOf(FIELD_SEPARATOR);
     if (lastDot < 0) {
       return "";
@@ -19,6 +19,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.data.MapEntry.entry;
+import static org.assertj.core.internal.FieldLocationMatcher.matchingFields;
 import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
@@ -41,6 +42,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
 import org.assertj.core.api.recursive.AbstractRecursiveOperationConfiguration;
+import org.assertj.core.internal.FieldLocationMatcher;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.internal.TypeMessages;
 import org.assertj.core.presentation.Representation;
@@ -66,15 +68,19 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // overridden equals method to ignore section
   private final List<Class<?>> ignoredOverriddenEqualsForTypes = new ArrayList<>();
-  private List<String> ignoredOverriddenEqualsForFields = new ArrayList<>();
+  private final List<String> ignoredOverriddenEqualsForFields = new ArrayList<>();
   private final List<Pattern> ignoredOverriddenEqualsForFieldsMatchingRegexes = new ArrayList<>();
+  // rebuilt when the fields or regexes change
+  private FieldLocationMatcher ignoredOverriddenEqualsForFieldsMatcher = ignoredOverriddenEqualsForFieldsMatcher();
   private boolean ignoreAllOverriddenEquals = DEFAULT_IGNORE_ALL_OVERRIDDEN_EQUALS;
 
   // ignore order in collections section
   private boolean ignoreCollectionOrder = false;
   private boolean ignoreArrayOrder = false;
-  private Set<String> ignoredCollectionOrderInFields = new LinkedHashSet<>();
+  private final Set<String> ignoredCollectionOrderInFields = new LinkedHashSet<>();
   private final List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes = new ArrayList<>();
+  // rebuilt when the fields or regexes change
+  private FieldLocationMatcher ignoredCollectionOrderInFieldsMatcher = ignoredCollectionOrderInFieldsMatcher();
 
   // registered comparators section
   private TypeComparators typeComparators = defaultTypeComparators();
@@ -105,12 +111,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.comparedFields = newLinkedHashSet(builder.comparedFields);
     this.comparedTypes = newLinkedHashSet(builder.comparedTypes);
     ignoreOverriddenEqualsForTypes(builder.ignoredOverriddenEqualsForTypes);
-    this.ignoredOverriddenEqualsForFields = list(builder.ignoredOverriddenEqualsForFields);
+    ignoreOverriddenEqualsForFields(builder.ignoredOverriddenEqualsForFields);
     ignoreOverriddenEqualsForFieldsMatchingRegexes(builder.ignoredOverriddenEqualsForFieldsMatchingRegexes);
     this.ignoreAllOverriddenEquals = builder.ignoreAllOverriddenEquals;
     this.ignoreCollectionOrder = builder.ignoreCollectionOrder;
     this.ignoreArrayOrder = builder.ignoreArrayOrder;
-    this.ignoredCollectionOrderInFields = newLinkedHashSet(builder.ignoredCollectionOrderInFields);
+    ignoreCollectionOrderInFields(builder.ignoredCollectionOrderInFields);
     ignoreCollectionOrderInFieldsMatchingRegexes(builder.ignoredCollectionOrderInFieldsMatchingRegexes);
     this.typeComparators = builder.typeComparators;
     this.fieldComparators = builder.fieldComparators;
@@ -320,6 +326,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void ignoreOverriddenEqualsForFields(String... fields) {
     List<String> fieldLocations = list(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    ignoredOverriddenEqualsForFieldsMatcher = ignoredOverriddenEqualsForFieldsMatcher();
   }
 
   /**
@@ -333,6 +340,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .collect(toList()));
+    ignoredOverriddenEqualsForFieldsMatcher = ignoredOverriddenEqualsForFieldsMatcher();
   }
 
   /**
@@ -394,6 +402,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
     List<String> fieldLocations = list(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    ignoredCollectionOrderInFieldsMatcher = ignoredCollectionOrderInFieldsMatcher();
   }
 
   /**
@@ -416,6 +425,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    ignoredCollectionOrderInFieldsMatcher = ignoredCollectionOrderInFieldsMatcher();
   }
 
   /**
@@ -834,9 +844,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    return ignoreCollectionOrder || ignoredCollectionOrderInFieldsMatcher.matches(fieldLocation);
   }
 
   public boolean shouldIgnoreArrayOrder() {
@@ -944,20 +952,20 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
-    if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredOverriddenEqualsForFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private boolean matchesAnIgnoredOverriddenEqualsType(Class<?> clazz) {
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
-           || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
+    return ignoredOverriddenEqualsForFieldsMatcher.matches(dualValue.fieldLocation);
+  }
+
+  private FieldLocationMatcher ignoredOverriddenEqualsForFieldsMatcher() {
+    return matchingFields(ignoredOverriddenEqualsForFields, ignoredOverriddenEqualsForFieldsMatchingRegexes);
+  }
+
+  private FieldLocationMatcher ignoredCollectionOrderInFieldsMatcher() {
+    return matchingFields(ignoredCollectionOrderInFields, ignoredCollectionOrderInFieldsMatchingRegexes);
   }
 
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
@@ -997,15 +1005,6 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     }
   }
 
-  private boolean matchesAnIgnoredCollectionOrderInField(FieldLocation fieldLocation) {
-    return ignoredCollectionOrderInFields.stream().anyMatch(fieldLocation::exactlyMatches);
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(FieldLocation fieldLocation) {
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private String describeComparedFields() {
     return join(comparedFields.stream().map(FieldLocation::shortDescription).collect(toList()));
   }
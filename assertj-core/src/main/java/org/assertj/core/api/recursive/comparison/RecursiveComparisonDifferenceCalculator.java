@@ -14,10 +14,7 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
@@ -31,11 +28,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -74,6 +72,8 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // how deep nested values are looked at to compute the fingerprint of unordered collection elements
+  private static final int MAX_FINGERPRINT_DEPTH = 2;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -598,30 +598,29 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static void doCompareUnorderedIterables(DualValue dualValue, Iterable<?> actual, Iterable<?> expected,
                                                   ComparisonState comparisonState) {
+    // speed up comparison by selecting actual elements matching expected fingerprint, note that the fingerprint is only an
+    // heuristic (the elements might be compared with custom comparators for example), it's a good one though to check the
+    // first actual elements that could match the expected one, worst case we compare all actual elements.
+    // the groups are built once, matched actual elements are removed from them as they can't match other expected elements.
+    Map<Integer, List<Object>> unmatchedActualElementsByFingerprint = groupedByFingerprint(actual, dualValue.fieldLocation,
+                                                                                            comparisonState.recursiveComparisonConfiguration);
     List<Object> expectedElementsNotFound = list();
     for (Object expectedElement : expected) {
-      boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
-      }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
+      Integer expectedFingerprint = fingerprint(expectedElement, dualValue.fieldLocation,
+                                                comparisonState.recursiveComparisonConfiguration);
+      boolean expectedElementMatched = searchExpectedElementIn(unmatchedActualElementsByFingerprint, expectedFingerprint,
+                                                               unmatchedActualElementsByFingerprint.get(expectedFingerprint),
+                                                               expectedElement, dualValue, comparisonState);
+      // It may be that expectedElement matches an actual element with a different fingerprint, to account for this, we check
+      // the other actual elements for matches. This may result in O(n^2) complexity in the worst case.
       if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
-          // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
+        // no copy of the groups needed: we stop iterating as soon as an actual element (and possibly its group) is removed
+        for (Entry<Integer, List<Object>> actualElementsEntry : unmatchedActualElementsByFingerprint.entrySet()) {
+          // avoid checking the same group twice
+          if (actualElementsEntry.getKey().equals(expectedFingerprint)) continue;
+          expectedElementMatched = searchExpectedElementIn(unmatchedActualElementsByFingerprint, actualElementsEntry.getKey(),
+                                                           actualElementsEntry.getValue(), expectedElement, dualValue,
+                                                           comparisonState);
           if (expectedElementMatched) break;
         }
         if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
@@ -637,28 +636,86 @@ public class RecursiveComparisonDifferenceCalculator {
     }
   }
 
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
+  private static Map<Integer, List<Object>> groupedByFingerprint(Iterable<?> elements, FieldLocation fieldLocation,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    Map<Integer, List<Object>> elementsByFingerprint = new LinkedHashMap<>();
+    for (Object element : elements) {
+      Integer fingerprint = fingerprint(element, fieldLocation, recursiveComparisonConfiguration);
+      elementsByFingerprint.computeIfAbsent(fingerprint, key -> new LinkedList<>()).add(element);
+    }
+    return elementsByFingerprint;
+  }
+
+  /**
+   * Computes a hash of the given element that only takes into account what the recursive comparison compares, that is
+   * the element fields honoring ignored fields (the element hashCode could use ignored fields or not be overridden at all).
+   * <p>
+   * The fingerprint is used to pick the actual elements that are likely to match an expected one, it does not need to be
+   * accurate: nested values are only looked at up to a few levels and values with custom comparators are not hashed.
+   */
+  private static int fingerprint(Object element, FieldLocation fieldLocation,
+                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return fingerprint(element, fieldLocation, recursiveComparisonConfiguration, MAX_FINGERPRINT_DEPTH);
+  }
+
+  private static int fingerprint(Object value, FieldLocation fieldLocation,
+                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration, int depth) {
+    if (value == null) return 0;
+    DualValue dualValue = new DualValue(fieldLocation, value, value);
+    // custom comparators may consider values having different hash codes to be equal
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) return 0;
+    if (value instanceof Collection<?> collection) return collection.size();
+    if (value.getClass().isArray()) return Array.getLength(value);
+    // other containers can be compared to values of different types or have ignored keys, don't try to be smart with them
+    if (!dualValue.hasNoContainerValues()) return 0;
+    if (shouldHonorEquals(dualValue, recursiveComparisonConfiguration)) return value.hashCode();
+    if (depth == 0) return 0;
+    int fingerprint = 0;
+    for (String childNodeName : recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue)) {
+      Object childNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, value);
+      int childFingerprint = fingerprint(childNodeValue, fieldLocation.field(childNodeName), recursiveComparisonConfiguration,
+                                         depth - 1);
+      // order independent as actual and expected can be of different types declaring their fields in a different order
+      fingerprint += 31 * childNodeName.hashCode() + childFingerprint;
+    }
+    return fingerprint;
   }
 
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
+  private static boolean searchExpectedElementIn(Map<Integer, List<Object>> unmatchedActualElementsByFingerprint,
+                                                 Integer fingerprint, List<Object> actualElements, Object expectedElement,
                                                  DualValue dualValue, ComparisonState comparisonState) {
+    if (actualElements == null) return false;
+    Iterator<Object> actualIterator = actualElements.iterator();
     while (actualIterator.hasNext()) {
       Object actualElement = actualIterator.next();
-      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement,
-                                                                    dualValue.fieldLocation,
-                                                                    comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
+      if (matches(actualElement, expectedElement, dualValue, comparisonState)) {
         // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
         actualIterator.remove();
+        if (actualElements.isEmpty()) unmatchedActualElementsByFingerprint.remove(fingerprint);
         return true;
       }
     }
     return false;
   }
 
+  private static boolean matches(Object actualElement, Object expectedElement, DualValue dualValue,
+                                 ComparisonState comparisonState) {
+    VisitedDualValues visitedDualValues = comparisonState.visitedDualValues;
+    // a failed match attempt must not leave its visited dual values behind as they are only registered with the differences
+    // found on them and not the ones found on their children, visiting them again would wrongly report them as equal.
+    int transaction = visitedDualValues.startTransaction();
+    // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+    List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, dualValue.fieldLocation,
+                                                                  visitedDualValues,
+                                                                  comparisonState.recursiveComparisonConfiguration);
+    if (differences.isEmpty()) {
+      visitedDualValues.commit();
+      return true;
+    }
+    visitedDualValues.rollback(transaction);
+    return false;
+  }
+
   // TODO replace by ordered map
   private static <K, V> void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
     if (!dualValue.isActualFieldASortedMap()) {
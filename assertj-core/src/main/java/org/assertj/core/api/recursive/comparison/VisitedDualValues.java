@@ -12,36 +12,105 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // visited dual values are indexed by the identity of their actual and expected values (agnostic of location), this keeps
+  // lookups constant time instead of scanning all the visited dual values which is quadratic on large object graphs.
+  private final Map<ValuesIdentity, VisitedDualValue> dualValues;
+  // changes made while a transaction is open, undone in reverse order when a transaction is rolled back
+  private final List<Runnable> undoLog;
+  private int openTransactions;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this.dualValues = new HashMap<>();
+    this.undoLog = new ArrayList<>();
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    // keep the first registered dual value to be consistent with registeredComparisonDifferencesOf
+    ValuesIdentity valuesIdentity = new ValuesIdentity(dualValue);
+    if (this.dualValues.putIfAbsent(valuesIdentity, new VisitedDualValue(dualValue)) == null && openTransactions > 0) {
+      undoLog.add(() -> this.dualValues.remove(valuesIdentity));
+    }
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // register difference on dual values agnostic of location, to take care of values visited several times
+    VisitedDualValue visitedDualValue = this.dualValues.get(new ValuesIdentity(dualValue));
+    if (visitedDualValue == null) return;
+    List<ComparisonDifference> comparisonDifferences = visitedDualValue.comparisonDifferences;
+    comparisonDifferences.add(comparisonDifference);
+    if (openTransactions > 0) undoLog.add(() -> comparisonDifferences.remove(comparisonDifferences.size() - 1));
+  }
+
+  /**
+   * Starts tracking the visited dual values changes so that they can be undone with {@link #rollback(int)}.
+   * <p>
+   * This is used when trying to match elements of unordered collections: differences are only registered on the dual values
+   * they were found on and not on their parents, if a failed match attempt was kept, visiting again its dual values would
+   * wrongly report them as having no differences.
+   *
+   * @return the transaction to pass to {@link #rollback(int)}, call {@link #commit()} instead to keep the changes
+   */
+  int startTransaction() {
+    openTransactions++;
+    return undoLog.size();
+  }
+
+  void commit() {
+    // changes are kept in the undo log as long as an enclosing transaction can still roll them back
+    endTransaction();
+  }
+
+  void rollback(int transaction) {
+    while (undoLog.size() > transaction) {
+      undoLog.remove(undoLog.size() - 1).run();
+    }
+    endTransaction();
+  }
+
+  private void endTransaction() {
+    openTransactions--;
+    if (openTransactions == 0) undoLog.clear();
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    // use sameValues semantics to get already visited dual values with different location
+    return Optional.ofNullable(this.dualValues.get(new ValuesIdentity(dualValue)))
+                   .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+  }
+
+  // key matching dual values having the same actual and expected instances, see DualValue#sameValues
+  private static final class ValuesIdentity {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
+
+    ValuesIdentity(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+      this.hashCode = 31 * identityHashCode(actual) + identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof ValuesIdentity that)) return false;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 
   private static class VisitedDualValue {
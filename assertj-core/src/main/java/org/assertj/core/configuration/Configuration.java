@@ -46,6 +46,8 @@ public class Configuration {
   public static final boolean LENIENT_DATE_PARSING = false;
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
+  public static final boolean DEFER_ERROR_MESSAGES = false;
+  public static final int MAX_FAILURES_DISPLAYED = Integer.MAX_VALUE;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
@@ -62,6 +64,8 @@ public class Configuration {
   private boolean printAssertionsDescription;
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
+  private boolean deferErrorMessages;
+  private int maxFailuresDisplayed;
   private PreferredAssumptionException preferredAssumptionException;
 
   public Configuration() {
@@ -83,6 +87,8 @@ public class Configuration {
     printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+    deferErrorMessages = DEFER_ERROR_MESSAGES;
+    maxFailuresDisplayed = MAX_FAILURES_DISPLAYED;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
   }
 
@@ -349,6 +355,55 @@ public class Configuration {
     this.maxStackTraceElementsDisplayed = maxStackTraceElementsDisplayed;
   }
 
+  /**
+   * Returns whether the error messages of failed assertions are built only when requested.
+   * Default is {@value #DEFER_ERROR_MESSAGES}.
+   * <p>
+   * See {@link Assertions#setDeferErrorMessages(boolean)} for a detailed description.
+   *
+   * @return whether the error messages of failed assertions are built only when requested.
+   */
+  public boolean deferErrorMessagesEnabled() {
+    return deferErrorMessages;
+  }
+
+  /**
+   * Sets whether the error messages of failed assertions are built only when requested.
+   * <p>
+   * See {@link Assertions#setDeferErrorMessages(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param deferErrorMessages whether the error messages of failed assertions are built only when requested.
+   */
+  public void setDeferErrorMessages(boolean deferErrorMessages) {
+    this.deferErrorMessages = deferErrorMessages;
+  }
+
+  /**
+   * Returns the maximum number of failures displayed in the error message of multiple failures, by default all are displayed.
+   * <p>
+   * See {@link Assertions#setMaxFailuresDisplayed(int)} for a detailed description.
+   *
+   * @return the maximum number of failures displayed in the error message of multiple failures.
+   */
+  public int maxFailuresDisplayed() {
+    return maxFailuresDisplayed;
+  }
+
+  /**
+   * Sets the maximum number of failures displayed in the error message of multiple failures.
+   * <p>
+   * See {@link Assertions#setMaxFailuresDisplayed(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxFailuresDisplayed the maximum number of failures displayed in the error message of multiple failures.
+   */
+  public void setMaxFailuresDisplayed(int maxFailuresDisplayed) {
+    this.maxFailuresDisplayed = maxFailuresDisplayed;
+  }
+
   /**
    * Returns which exception is thrown if an assumption is not met. 
    * <p>
@@ -389,6 +444,8 @@ public class Configuration {
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
     Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed());
+    Assertions.setDeferErrorMessages(deferErrorMessagesEnabled());
+    Assertions.setMaxFailuresDisplayed(maxFailuresDisplayed());
     // reset the default date formats otherwise a custom config would register them and when another config is applied it would
     // add to the previous config date formats
     AbstractDateAssert.useDefaultDateFormatsOnly();
@@ -415,6 +472,8 @@ public class Configuration {
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
                   "- maxStackTraceElementsDisplayed................... = %s%n" +
+                  "- deferErrorMessagesEnabled ....................... = %s%n" +
+                  "- maxFailuresDisplayed ............................ = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
@@ -429,6 +488,8 @@ public class Configuration {
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
                   maxStackTraceElementsDisplayed(),
+                  deferErrorMessagesEnabled(),
+                  maxFailuresDisplayed(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
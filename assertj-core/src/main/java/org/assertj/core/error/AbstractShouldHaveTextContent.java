@@ -25,6 +25,9 @@ import org.assertj.core.util.diff.Delta;
  */
 public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
 
+  // beyond this number of diffs, the error message only mentions how many were not displayed
+  private static final int MAX_DISPLAYED_DIFFS = 100;
+
   protected String diffs;
 
   public AbstractShouldHaveTextContent(String format, Object... arguments) {
@@ -51,7 +54,13 @@ public class AbstractShouldHaveTextContent extends BasicErrorMessageFactory {
   }
 
   protected static String diffsAsString(List<Delta<String>> diffsList) {
-    return diffsList.stream().map(Delta::toString).collect(joining(System.lineSeparator()));
+    String diffs = diffsList.stream()
+                            .limit(MAX_DISPLAYED_DIFFS)
+                            .map(Delta::toString)
+                            .collect(joining(System.lineSeparator()));
+    int notDisplayedDiffsCount = diffsList.size() - MAX_DISPLAYED_DIFFS;
+    if (notDisplayedDiffsCount <= 0) return diffs;
+    return diffs + System.lineSeparator() + "... and %d more differences".formatted(notDisplayedDiffsCount);
   }
 
 }
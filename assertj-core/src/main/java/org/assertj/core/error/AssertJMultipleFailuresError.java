@@ -16,6 +16,8 @@ import static org.assertj.core.util.Throwables.addLineNumberToErrorMessages;
 
 import java.io.Serial;
 import java.util.List;
+
+import org.assertj.core.presentation.StandardRepresentation;
 import org.opentest4j.MultipleFailuresError;
 
 /**
@@ -28,6 +30,8 @@ public class AssertJMultipleFailuresError extends MultipleFailuresError {
 
   private static final String EOL = System.lineSeparator();
   private static final String ERROR_SEPARATOR = EOL + "-- failure %d --";
+  private static final String FAILURES_NOT_DISPLAYED = EOL
+                                                       + "...(%d remaining %s not displayed - this can be changed with Assertions.setMaxFailuresDisplayed)";
 
   private String heading;
 
@@ -50,14 +54,21 @@ public class AssertJMultipleFailuresError extends MultipleFailuresError {
                                                   .append(failureCount).append(" ")
                                                   .append(pluralize(failureCount, "failure", "failures"))
                                                   .append(")");
-    List<Throwable> failuresWithLineNumbers = addLineNumberToErrorMessages(failures);
-    for (int i = 0; i < failureCount; i++) {
+    // only the displayed failures messages are built, this matters when they are deferred
+    int displayedFailureCount = Math.min(failureCount, StandardRepresentation.getMaxFailuresDisplayed());
+    List<Throwable> failuresWithLineNumbers = addLineNumberToErrorMessages(failures.subList(0, displayedFailureCount));
+    for (int i = 0; i < displayedFailureCount; i++) {
       builder.append(errorSeparator(i + 1));
       String message = nullSafeMessage(failuresWithLineNumbers.get(i));
       // when we have a description, we add a line before for readability
       if (hasDescription(message)) builder.append(EOL);
       builder.append(message);
     }
+    int notDisplayedFailureCount = failureCount - displayedFailureCount;
+    if (notDisplayedFailureCount > 0) {
+      builder.append(FAILURES_NOT_DISPLAYED.formatted(notDisplayedFailureCount,
+                                                      pluralize(notDisplayedFailureCount, "failure", "failures")));
+    }
 
     return builder.toString();
   }
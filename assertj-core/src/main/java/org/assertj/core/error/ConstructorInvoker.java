@@ -12,19 +12,67 @@
  */
 package org.assertj.core.error;
 
-import java.lang.reflect.Constructor;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are looked up once and invoked with method handles, a constructor that could not be found (typically because
+ * its class is not in the classpath) is not looked up again.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  // all constructors are adapted to this type to be invoked with invokeExact
+  private static final MethodType CONSTRUCTOR_TYPE = methodType(Object.class, Object[].class);
+  // constructors by class name and parameter types
+  private static final Map<String, Map<List<Class<?>>, ConstructorLookup>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    return constructor.newInstance(parameterValues);
+    MethodHandle constructor = CONSTRUCTORS.computeIfAbsent(className, name -> new ConcurrentHashMap<>())
+                                           .computeIfAbsent(List.of(parameterTypes),
+                                                            types -> lookUpConstructor(className, parameterTypes))
+                                           .constructor();
+    try {
+      return (Object) constructor.invokeExact(parameterValues);
+    } catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  private static ConstructorLookup lookUpConstructor(String className, Class<?>[] parameterTypes) {
+    try {
+      MethodHandle constructor = LOOKUP.unreflectConstructor(Class.forName(className).getConstructor(parameterTypes));
+      return new ConstructorLookup(constructor.asSpreader(Object[].class, parameterTypes.length).asType(CONSTRUCTOR_TYPE), null);
+    } catch (ReflectiveOperationException e) {
+      return new ConstructorLookup(null, e);
+    }
+  }
+
+  private static final class ConstructorLookup {
+
+    private final MethodHandle constructor;
+    private final ReflectiveOperationException failure;
+
+    private ConstructorLookup(MethodHandle constructor, ReflectiveOperationException failure) {
+      this.constructor = constructor;
+      this.failure = failure;
+    }
+
+    private MethodHandle constructor() throws ReflectiveOperationException {
+      if (constructor == null) throw failure;
+      return constructor;
+    }
   }
 }
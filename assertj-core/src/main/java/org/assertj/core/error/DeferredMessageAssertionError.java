@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * An {@link AssertionError} whose message is only built the first time it is requested.
+ * <p>
+ * Building an error message can be costly, for example when it formats a large actual value. Errors whose message is never
+ * read, like soft assertion errors that are collected but not displayed, don't pay that cost.
+ * <p>
+ * The values are formatted when the message is built, changing them after the assertion has failed changes the message.
+ *
+ * @see org.assertj.core.api.Assertions#setDeferErrorMessages(boolean)
+ */
+public class DeferredMessageAssertionError extends AssertionError {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  // null once the message is built
+  private transient Supplier<String> messageSupplier;
+  private String message;
+
+  /**
+   * Creates a new {@link DeferredMessageAssertionError} whose message is created with the given factory when first requested.
+   *
+   * @param messageFactory the factory creating the error message.
+   * @param description the description of the failed assertion.
+   * @param representation the representation used to format the values in the error message.
+   */
+  public DeferredMessageAssertionError(ErrorMessageFactory messageFactory, Description description,
+                                       Representation representation) {
+    this(() -> messageFactory.create(description, representation));
+  }
+
+  private DeferredMessageAssertionError(Supplier<String> messageSupplier) {
+    this.messageSupplier = messageSupplier;
+  }
+
+  @Override
+  public synchronized String getMessage() {
+    if (messageSupplier != null) {
+      message = messageSupplier.get();
+      messageSupplier = null;
+    }
+    return message;
+  }
+
+  /**
+   * Returns a copy of this error whose message is this error message decorated with the given function, the copy has the
+   * same stack trace, cause and suppressed exceptions as this error.
+   * <p>
+   * The message of the returned error is also only built when first requested.
+   *
+   * @param messageDecorator the function decorating this error message.
+   * @return a copy of this error with a decorated message.
+   */
+  public DeferredMessageAssertionError withDecoratedMessage(UnaryOperator<String> messageDecorator) {
+    DeferredMessageAssertionError decoratedError = new DeferredMessageAssertionError(() -> messageDecorator.apply(getMessage()));
+    decoratedError.setStackTrace(getStackTrace());
+    if (getCause() != null) decoratedError.initCause(getCause());
+    Stream.of(getSuppressed()).forEach(decoratedError::addSuppressed);
+    return decoratedError;
+  }
+
+  @Serial
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    // the message supplier is not serialized, build the message while it is available
+    getMessage();
+    out.defaultWriteObject();
+  }
+
+}
@@ -46,6 +46,8 @@ public class ShouldBeEqual {
   private static final Class<?>[] MSG_ARG_TYPES = array(String.class, String.class, String.class);
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class,
                                                                                    Object.class);
+  // actual and expected are represented once, their representations are then used as they are to build the error message
+  private static final Representation ALREADY_REPRESENTED = String::valueOf;
   protected final Object actual;
   protected final Object expected;
   protected final MessageFormatter messageFormatter = MessageFormatter.instance();
@@ -53,6 +55,8 @@ public class ShouldBeEqual {
   private final Representation representation;
   private final ConstructorInvoker constructorInvoker = new ConstructorInvoker();
   private final DescriptionFormatter descriptionFormatter = DescriptionFormatter.instance();
+  // building the error message and the error needs actual and expected representations several times, compute them once
+  private StringRepresentations stringRepresentations;
 
   /**
    * Creates a new <code>{@link ShouldBeEqual}</code>.
@@ -130,7 +134,17 @@ public class ShouldBeEqual {
   }
 
   protected boolean actualAndExpectedHaveSameStringRepresentation() {
-    return Objects.equals(representation.toStringOf(actual), representation.toStringOf(expected));
+    StringRepresentations representations = stringRepresentationsWith(representation);
+    return Objects.equals(representations.actual, representations.expected);
+  }
+
+  private StringRepresentations stringRepresentationsWith(Representation representation) {
+    StringRepresentations representations = stringRepresentations;
+    if (representations == null || representations.representation != representation) {
+      representations = new StringRepresentations(representation, actual, expected);
+      stringRepresentations = representations;
+    }
+    return representations;
   }
 
   /**
@@ -152,22 +166,24 @@ public class ShouldBeEqual {
       // this is even more confusing as we lost the fact that 42 was a float or a double.
       return defaultDetailedErrorMessage(description, representation);
     }
-    String actualRepresentation = representation.toStringOf(actual);
-    String expectedRepresentation = representation.toStringOf(expected);
+    StringRepresentations representations = stringRepresentationsWith(representation);
+    String actualRepresentation = representations.actual;
+    String expectedRepresentation = representations.expected;
     if (hasMultilineValue(actualRepresentation, expectedRepresentation)) {
       return errorMessageForMultilineValues(description, actualRepresentation, expectedRepresentation);
     }
 
     return comparisonStrategy.isStandard()
-        ? messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, expected, actual)
-        : messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
-                                  expected, actual, comparisonStrategy);
+        ? messageFormatter.format(description, ALREADY_REPRESENTED, EXPECTED_BUT_WAS_MESSAGE, expectedRepresentation,
+                                  actualRepresentation)
+        : messageFormatter.format(description, ALREADY_REPRESENTED, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
+                                  expectedRepresentation, actualRepresentation, comparisonStrategy);
   }
 
   private String errorMessageForMultilineValues(Description description,
                                                 String actualRepresentation,
                                                 String expectedRepresentation) {
-    String desc = DescriptionFormatter.instance().format(description);
+    String desc = descriptionFormatter.format(description);
     return desc + messageForMultilineValues(actualRepresentation, expectedRepresentation);
   }
 
@@ -213,11 +229,12 @@ public class ShouldBeEqual {
 
   private AssertionError assertionFailedError(String message, Representation representation) {
     try {
+      StringRepresentations representations = stringRepresentationsWith(representation);
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                representation.toStringOf(expected),
-                                                representation.toStringOf(actual));
+                                                representations.expected,
+                                                representations.actual);
       if (o instanceof AssertionError assertionError) {
         Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
         return assertionError;
@@ -239,11 +256,12 @@ public class ShouldBeEqual {
   }
 
   private AssertionError newComparisonFailure(String description) throws Exception {
+    StringRepresentations representations = stringRepresentationsWith(representation);
     Object o = constructorInvoker.newInstance("org.junit.ComparisonFailure",
                                               MSG_ARG_TYPES,
                                               description,
-                                              representation.toStringOf(expected),
-                                              representation.toStringOf(actual));
+                                              representations.expected,
+                                              representations.actual);
     return o instanceof AssertionError assertionError ? assertionError : null;
   }
 
@@ -272,4 +290,17 @@ public class ShouldBeEqual {
     result = HASH_CODE_PRIME * result + hashCodeFor(expected);
     return result;
   }
+
+  private static final class StringRepresentations {
+
+    private final Representation representation;
+    private final String actual;
+    private final String expected;
+
+    private StringRepresentations(Representation representation, Object actual, Object expected) {
+      this.representation = representation;
+      this.actual = representation.toStringOf(actual);
+      this.expected = representation.toStringOf(expected);
+    }
+  }
 }
@@ -57,16 +57,21 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
 
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
     super("%nFile:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
     super("%nPath:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(InputStream actual, BinaryDiffResult diff) {
     super("%nInputStream%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
+  }
+
+  // the offset is a long, it must not be represented with the 'L' suffix
+  private static CharSequence offsetOf(BinaryDiffResult diff) {
+    return unquotedString(Long.toString(diff.offset));
   }
 }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.error;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.Condition;
@@ -25,6 +26,11 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
 
   private static final String CONDITION_SHOULD_BE_SATISFIED = "%nExpecting actual:%n  %s%nto satisfy:%n  %s";
   private static final String CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER = "%nExpecting actual:%n  %s%nto satisfy all the consumers in any order.";
+  private static final String CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER_WITH_UNMATCHED = "%nExpecting actual:%n  %s%n"
+                                                                                        + "to satisfy all the consumers in any order but these consumers (0-based indexes) could not be matched to distinct elements:%n"
+                                                                                        + "  %s%n"
+                                                                                        + "and these elements were not matched by any consumer:%n"
+                                                                                        + "  %s";
 
   public static <T> ErrorMessageFactory shouldSatisfy(T actual, Condition<? super T> condition) {
     return new ShouldSatisfy(actual, condition);
@@ -36,11 +42,29 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
    * @param <E> the iterable elements type.
    * @param actual the actual iterable in the failed assertion.
    * @return the created {@code ErrorMessageFactory}.
+   * @deprecated use {@link #shouldSatisfyExactlyInAnyOrder(Iterable, List, List)} which reports the consumers and elements
+   * that could not be matched.
    */
+  @Deprecated
   public static <E> ErrorMessageFactory shouldSatisfyExactlyInAnyOrder(Iterable<E> actual) {
     return new ShouldSatisfy(actual);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldSatisfy}</code> reporting the consumers and elements that could not be matched one to one.
+   *
+   * @param <E> the iterable elements type.
+   * @param actual the actual iterable in the failed assertion.
+   * @param unmatchedConsumerIndexes the indexes of the consumers that could not be matched to distinct elements.
+   * @param unmatchedElements the elements not matched by any consumer.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static <E> ErrorMessageFactory shouldSatisfyExactlyInAnyOrder(Iterable<? extends E> actual,
+                                                                       List<Integer> unmatchedConsumerIndexes,
+                                                                       List<? extends E> unmatchedElements) {
+    return new ShouldSatisfy(actual, unmatchedConsumerIndexes, unmatchedElements);
+  }
+
   private ShouldSatisfy(Object actual, Condition<?> condition) {
     super(CONDITION_SHOULD_BE_SATISFIED, actual, condition);
   }
@@ -56,4 +80,9 @@ public class ShouldSatisfy extends BasicErrorMessageFactory {
   private <E> ShouldSatisfy(Iterable<E> actual) {
     super(CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER, actual);
   }
+
+  private <E> ShouldSatisfy(Iterable<? extends E> actual, List<Integer> unmatchedConsumerIndexes,
+                            List<? extends E> unmatchedElements) {
+    super(CONSUMERS_SHOULD_BE_SATISFIED_IN_ANY_ORDER_WITH_UNMATCHED, actual, unmatchedConsumerIndexes, unmatchedElements);
+  }
 }
@@ -87,6 +87,8 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -201,6 +203,7 @@ public class Arrays {
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (primitiveElementsSatisfy(actual, values, PrimitiveArrayElements::containsAll)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -248,6 +251,7 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (primitiveElementsSatisfy(actual, values, PrimitiveArrayElements::containsOnly)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -281,6 +285,7 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (primitiveElementsSatisfy(actual, values, PrimitiveArrayElements::containsExactly)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -302,6 +307,7 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (primitiveElementsSatisfy(actual, values, PrimitiveArrayElements::containsExactlyInAnyOrder)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -349,6 +355,7 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
+    if (primitiveElementsSatisfy(actual, sequence, PrimitiveArrayElements::containsSequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
@@ -359,6 +366,7 @@ public class Arrays {
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
+    if (primitiveElementsSatisfy(actual, sequence, (elements, values) -> !elements.containsSequence(values))) return;
 
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
@@ -388,6 +396,7 @@ public class Arrays {
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, failures, actual, subsequence)) return;
+    if (primitiveElementsSatisfy(actual, subsequence, PrimitiveArrayElements::containsSubsequence)) return;
 
     int sizeOfActual = sizeOf(actual);
     int sizeOfSubsequence = sizeOf(subsequence);
@@ -455,6 +464,24 @@ public class Arrays {
     }
   }
 
+  /**
+   * Returns true if actual and values are primitive arrays of the same type compared with the standard comparison strategy and
+   * their elements satisfy the given check, which is then done without reflection nor boxing.
+   * <p>
+   * Returning false does not mean the check failed, callers must perform it with the generic code which also builds the
+   * error message.
+   */
+  private boolean primitiveElementsSatisfy(Object actual, Object values,
+                                           BiPredicate<PrimitiveArrayElements, PrimitiveArrayElements> check) {
+    if (!comparisonStrategy.isStandard() || actual.getClass() != values.getClass()) return false;
+    PrimitiveArrayElements actualElements = PrimitiveArrayElements.of(actual);
+    return actualElements != null && check.test(actualElements, PrimitiveArrayElements.of(values));
+  }
+
+  private boolean primitiveElementsSatisfy(Object array, Predicate<PrimitiveArrayElements> check) {
+    return primitiveElementsSatisfy(array, array, (elements, sameElements) -> check.test(elements));
+  }
+
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -462,6 +489,7 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (primitiveElementsSatisfy(array, values, PrimitiveArrayElements::containsNoneOf)) return;
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
@@ -477,6 +505,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (primitiveElementsSatisfy(array, elements -> !elements.hasDuplicates())) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -486,6 +515,7 @@ public class Arrays {
   void assertStartsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence))
       return;
+    if (primitiveElementsSatisfy(actual, sequence, PrimitiveArrayElements::startsWith)) return;
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
@@ -521,6 +551,7 @@ public class Arrays {
 
   void assertEndsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     checkNulls(info, actual, sequence);
+    if (primitiveElementsSatisfy(actual, sequence, PrimitiveArrayElements::endsWith)) return;
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
@@ -680,6 +711,12 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    PrimitiveArrayElements primitiveElements = PrimitiveArrayElements.of(array);
+    if (primitiveElements != null) {
+      int unsortedElementIndex = primitiveElements.indexOfFirstUnsortedElement();
+      if (unsortedElementIndex >= 0) throw failures.failure(info, shouldBeSorted(unsortedElementIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
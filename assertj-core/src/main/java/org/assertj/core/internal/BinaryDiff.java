@@ -12,22 +12,34 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * Compares the binary content of two inputStreams/paths.
- * 
+ * <p>
+ * Contents are compared block by block with {@link Arrays#mismatch(byte[], int, int, byte[], int, int)} rather than byte by
+ * byte, the reported difference is the first one, its offset is computed from the block index. Input streams are thus read
+ * up to the end of the block containing the first difference.
+ *
  * @author Olivier Michallat
  */
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  private static final int BLOCK_SIZE = 64 * 1024;
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -40,6 +52,45 @@ public class BinaryDiff {
     }
   }
 
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
+  /**
+   * Compares the content of two files without loading them in memory, only the first bytes common to both files are read:
+   * files of different sizes always differ, the comparison is then only needed to find where.
+   *
+   * @param actual the actual file
+   * @param expected the expected file
+   * @return the first difference between the files content if any
+   * @throws IOException if an I/O error occurs
+   */
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      long actualSize = actualChannel.size();
+      long expectedSize = expectedChannel.size();
+      long commonSize = Math.min(actualSize, expectedSize);
+      ByteBuffer actualBlock = ByteBuffer.allocate(BLOCK_SIZE);
+      ByteBuffer expectedBlock = ByteBuffer.allocate(BLOCK_SIZE);
+      for (long position = 0; position < commonSize; position += BLOCK_SIZE) {
+        int blockSize = (int) Math.min(BLOCK_SIZE, commonSize - position);
+        readBlock(actualChannel, actualBlock, position, blockSize);
+        readBlock(expectedChannel, expectedBlock, position, blockSize);
+        int mismatch = actualBlock.mismatch(expectedBlock);
+        if (mismatch != EOF) {
+          return new BinaryDiffResult(position + mismatch, Byte.toUnsignedInt(expectedBlock.get(mismatch)),
+                                      Byte.toUnsignedInt(actualBlock.get(mismatch)));
+        }
+      }
+      if (actualSize == expectedSize) return BinaryDiffResult.noDiff();
+      // the content of one file starts with the content of the other one
+      return new BinaryDiffResult(commonSize, byteAt(expectedChannel, commonSize), byteAt(actualChannel, commonSize));
+    }
+  }
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
     return diff(actualStream, new ByteArrayInputStream(expected));
@@ -47,13 +98,37 @@ public class BinaryDiff {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      // readNBytes only reads less than BLOCK_SIZE bytes at the end of the stream
+      int actualBlockSize = actualStream.readNBytes(actualBlock, 0, BLOCK_SIZE);
+      int expectedBlockSize = expectedStream.readNBytes(expectedBlock, 0, BLOCK_SIZE);
+      int mismatch = Arrays.mismatch(actualBlock, 0, actualBlockSize, expectedBlock, 0, expectedBlockSize);
+      if (mismatch != EOF) {
+        return new BinaryDiffResult(offset + mismatch, byteAt(expectedBlock, expectedBlockSize, mismatch),
+                                    byteAt(actualBlock, actualBlockSize, mismatch));
+      }
+      if (actualBlockSize < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      offset += BLOCK_SIZE;
+    }
+  }
+
+  private static void readBlock(FileChannel channel, ByteBuffer block, long position, int blockSize) throws IOException {
+    block.clear().limit(blockSize);
+    while (block.hasRemaining()) {
+      if (channel.read(block, position + block.position()) == EOF) break;
     }
+    block.flip();
+  }
+
+  private static int byteAt(FileChannel channel, long position) throws IOException {
+    ByteBuffer singleByte = ByteBuffer.allocate(1);
+    return channel.read(singleByte, position) == EOF ? EOF : Byte.toUnsignedInt(singleByte.get(0));
+  }
+
+  private static int byteAt(byte[] block, int blockSize, int index) {
+    return index < blockSize ? Byte.toUnsignedInt(block[index]) : EOF;
   }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.internal.Iterables.byPassingAssertions;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Maximum one to one matching between requirements (expressed as <code>Consumer</code>s) and the elements satisfying them.
+ * <p>
+ * Each consumer is evaluated once against each element, the matching is then computed with the Hopcroft-Karp algorithm in
+ * O(E√V) where E is the number of (consumer, satisfying element) pairs and V the number of consumers and elements.
+ *
+ * @param <E> element type
+ */
+class ConsumersToElementsMatching<E> {
+
+  private static final int UNMATCHED = -1;
+
+  private final List<E> elements;
+  // elementsSatisfyingConsumer[i] = indexes of the elements satisfying the i-th consumer
+  private final int[][] elementsSatisfyingConsumer;
+  private final int[] elementMatchedByConsumer;
+  private final int[] consumerMatchedByElement;
+  // BFS layers used by Hopcroft-Karp to only look for the shortest augmenting paths
+  private final int[] consumerLayer;
+
+  ConsumersToElementsMatching(Iterable<? extends E> actual, Consumer<? super E>[] consumers) {
+    this.elements = newArrayList(actual);
+    this.elementsSatisfyingConsumer = new int[consumers.length][];
+    for (int consumerIndex = 0; consumerIndex < consumers.length; consumerIndex++) {
+      elementsSatisfyingConsumer[consumerIndex] = indexesOfElementsSatisfying(consumers[consumerIndex]);
+    }
+    this.elementMatchedByConsumer = new int[consumers.length];
+    this.consumerMatchedByElement = new int[elements.size()];
+    this.consumerLayer = new int[consumers.length];
+    Arrays.fill(elementMatchedByConsumer, UNMATCHED);
+    Arrays.fill(consumerMatchedByElement, UNMATCHED);
+    computeMaximumMatching();
+  }
+
+  private int[] indexesOfElementsSatisfying(Consumer<? super E> consumer) {
+    Predicate<E> satisfyingConsumer = byPassingAssertions(consumer);
+    return range(0, elements.size()).filter(elementIndex -> satisfyingConsumer.test(elements.get(elementIndex)))
+                                    .toArray();
+  }
+
+  boolean allConsumersAreMatched() {
+    return Arrays.stream(elementMatchedByConsumer).noneMatch(elementIndex -> elementIndex == UNMATCHED);
+  }
+
+  List<Integer> unmatchedConsumerIndexes() {
+    List<Integer> unmatchedConsumerIndexes = new ArrayList<>();
+    for (int consumerIndex = 0; consumerIndex < elementMatchedByConsumer.length; consumerIndex++) {
+      if (elementMatchedByConsumer[consumerIndex] == UNMATCHED) unmatchedConsumerIndexes.add(consumerIndex);
+    }
+    return unmatchedConsumerIndexes;
+  }
+
+  List<E> unmatchedElements() {
+    List<E> unmatchedElements = new ArrayList<>();
+    for (int elementIndex = 0; elementIndex < consumerMatchedByElement.length; elementIndex++) {
+      if (consumerMatchedByElement[elementIndex] == UNMATCHED) unmatchedElements.add(elements.get(elementIndex));
+    }
+    return unmatchedElements;
+  }
+
+  private void computeMaximumMatching() {
+    while (buildLayers()) {
+      for (int consumerIndex = 0; consumerIndex < elementMatchedByConsumer.length; consumerIndex++) {
+        if (elementMatchedByConsumer[consumerIndex] == UNMATCHED) augmentFrom(consumerIndex);
+      }
+    }
+  }
+
+  // breadth first search from the unmatched consumers, returns true if an augmenting path exists
+  private boolean buildLayers() {
+    Deque<Integer> consumersToVisit = new ArrayDeque<>();
+    for (int consumerIndex = 0; consumerIndex < elementMatchedByConsumer.length; consumerIndex++) {
+      if (elementMatchedByConsumer[consumerIndex] == UNMATCHED) {
+        consumerLayer[consumerIndex] = 0;
+        consumersToVisit.add(consumerIndex);
+      } else {
+        consumerLayer[consumerIndex] = Integer.MAX_VALUE;
+      }
+    }
+    boolean augmentingPathFound = false;
+    while (!consumersToVisit.isEmpty()) {
+      int consumerIndex = consumersToVisit.remove();
+      for (int elementIndex : elementsSatisfyingConsumer[consumerIndex]) {
+        int matchedConsumer = consumerMatchedByElement[elementIndex];
+        if (matchedConsumer == UNMATCHED) {
+          augmentingPathFound = true;
+        } else if (consumerLayer[matchedConsumer] == Integer.MAX_VALUE) {
+          consumerLayer[matchedConsumer] = consumerLayer[consumerIndex] + 1;
+          consumersToVisit.add(matchedConsumer);
+        }
+      }
+    }
+    return augmentingPathFound;
+  }
+
+  // depth first search along the layers, flipping the matching along the augmenting path found if any
+  private boolean augmentFrom(int consumerIndex) {
+    for (int elementIndex : elementsSatisfyingConsumer[consumerIndex]) {
+      int matchedConsumer = consumerMatchedByElement[elementIndex];
+      if (matchedConsumer == UNMATCHED
+          || (consumerLayer[matchedConsumer] == consumerLayer[consumerIndex] + 1 && augmentFrom(matchedConsumer))) {
+        elementMatchedByConsumer[consumerIndex] = elementIndex;
+        consumerMatchedByElement[elementIndex] = consumerIndex;
+        return true;
+      }
+    }
+    // dead end, no need to explore this consumer again in this phase
+    consumerLayer[consumerIndex] = Integer.MAX_VALUE;
+    return false;
+  }
+
+}
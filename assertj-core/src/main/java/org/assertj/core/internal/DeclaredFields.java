@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The non static and non synthetic fields of a class, looked up once per class.
+ * <p>
+ * The fields are cached in a {@link ClassValue} which does not prevent the classes from being unloaded.
+ */
+final class DeclaredFields {
+
+  private static final ClassValue<DeclaredFields> DECLARED_FIELDS_PER_CLASS = new ClassValue<>() {
+    @Override
+    protected DeclaredFields computeValue(Class<?> type) {
+      return new DeclaredFields(type);
+    }
+  };
+
+  private final Set<Field> fieldsIncludingInherited;
+  private final Set<String> fieldsNamesIncludingInherited;
+  private final List<String> sortedFieldsNames;
+
+  private DeclaredFields(Class<?> type) {
+    Set<Field> fields = declaredFieldsIgnoringSyntheticAndStatic(type);
+    sortedFieldsNames = unmodifiableList(fields.stream().map(Field::getName).sorted().collect(toList()));
+    // get fields declared in superClass
+    Class<?> superClass = type.getSuperclass();
+    while (!isInJavaLangPackage(superClass)) {
+      fields.addAll(declaredFieldsIgnoringSyntheticAndStatic(superClass));
+      superClass = superClass.getSuperclass();
+    }
+    fieldsIncludingInherited = unmodifiableSet(fields);
+    Set<String> fieldsNames = fields.stream().map(Field::getName).collect(toCollection(LinkedHashSet::new));
+    fieldsNamesIncludingInherited = unmodifiableSet(fieldsNames);
+  }
+
+  static DeclaredFields of(Class<?> type) {
+    return DECLARED_FIELDS_PER_CLASS.get(type);
+  }
+
+  /**
+   * Returns the fields declared by the class and its superclasses outside of {@code java.lang}, in declaration order,
+   * starting with the class ones.
+   */
+  Set<Field> fieldsIncludingInherited() {
+    return fieldsIncludingInherited;
+  }
+
+  /**
+   * Returns the names of the fields declared by the class and its superclasses outside of {@code java.lang}, in the
+   * {@link #fieldsIncludingInherited()} order.
+   */
+  Set<String> fieldsNamesIncludingInherited() {
+    return fieldsNamesIncludingInherited;
+  }
+
+  /**
+   * Returns the sorted names of the fields declared by the class itself.
+   */
+  List<String> sortedFieldsNames() {
+    return sortedFieldsNames;
+  }
+
+  private static Set<Field> declaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
+    Field[] declaredFields = clazz.getDeclaredFields();
+    return stream(declaredFields).filter(field -> !(field.isSynthetic() || isStatic(field.getModifiers())))
+                                 .collect(toCollection(LinkedHashSet::new));
+  }
+
+}
@@ -12,7 +12,8 @@
  */
 package org.assertj.core.internal;
 
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
+import static java.lang.System.identityHashCode;
+import static org.assertj.core.internal.Objects.getFieldsNames;
 import static org.assertj.core.internal.Objects.propertyOrFieldValuesAreEqual;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Sets.newHashSet;
@@ -20,7 +21,6 @@ import static org.assertj.core.util.Strings.join;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -28,7 +28,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -58,11 +57,14 @@ public class DeepDifference {
     private final List<String> path;
     private final Object key1;
     private final Object key2;
+    // identity based like equals, the keys hashCode can be expensive or depend on mutable state
+    private final int hashCode;
 
     private DualKey(List<String> path, Object key1, Object key2) {
       this.path = path;
       this.key1 = key1;
       this.key2 = key2;
+      this.hashCode = identityHashCode(key1) + identityHashCode(key2);
     }
 
     @Override
@@ -77,9 +79,7 @@ public class DeepDifference {
 
     @Override
     public int hashCode() {
-      int h1 = key1 != null ? key1.hashCode() : 0;
-      int h2 = key2 != null ? key2.hashCode() : 0;
-      return h1 + h2;
+      return hashCode;
     }
 
     @Override
@@ -310,8 +310,8 @@ public class DeepDifference {
         continue;
       }
 
-      Set<String> key1FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key1.getClass()));
-      Set<String> key2FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key2.getClass()));
+      Set<String> key1FieldsNames = getFieldsNames(key1.getClass());
+      Set<String> key2FieldsNames = getFieldsNames(key2.getClass());
       if (!key2FieldsNames.containsAll(key1FieldsNames)) {
         Set<String> key1FieldsNamesNotInKey2 = newHashSet(key1FieldsNames);
         key1FieldsNamesNotInKey2.removeAll(key2FieldsNames);
@@ -357,9 +357,9 @@ public class DeepDifference {
     if (a != null && b != null && !isContainerType(a) && !isContainerType(b)
         && (isRootObject || !hasCustomComparator(basicDualKey, comparatorByPropertyOrField, comparatorByType))) {
       // disregard the equals method and start comparing fields
-      Set<String> aFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(a.getClass()));
+      Set<String> aFieldsNames = getFieldsNames(a.getClass());
       if (!aFieldsNames.isEmpty()) {
-        Set<String> bFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(b.getClass()));
+        Set<String> bFieldsNames = getFieldsNames(b.getClass());
         if (!bFieldsNames.containsAll(aFieldsNames)) {
           stack.addFirst(basicDualKey);
         } else {
@@ -381,14 +381,6 @@ public class DeepDifference {
     return stack;
   }
 
-  private static Set<String> getFieldsNames(Collection<Field> fields) {
-    Set<String> fieldNames = new LinkedHashSet<>();
-    for (Field field : fields) {
-      fieldNames.add(field.getName());
-    }
-    return fieldNames;
-  }
-
   private static boolean isContainerType(Object o) {
     return o instanceof Collection || o instanceof Map;
   }
@@ -711,9 +703,8 @@ public class DeepDifference {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
-        stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
+      for (String fieldName : getFieldsNames(obj.getClass())) {
+        stack.addFirst(COMPARISON.getSimpleValue(fieldName, obj));
       }
     }
     return hash;
@@ -13,7 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
-import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
 import java.io.BufferedReader;
@@ -27,9 +27,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
@@ -45,6 +50,9 @@ import org.assertj.core.util.diff.Patch;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class Diff {
 
+  // beyond this number of inserted and deleted lines, the differing lines are reported as a single change
+  private static final int MAX_EDIT_DISTANCE = 10_000;
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -83,24 +91,75 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
+  /**
+   * Streams both readers to skip their common first lines without keeping them in memory, the remaining lines are then read
+   * and their common last lines ignored so that the diff algorithm only runs on the lines that differ.
+   * <p>
+   * If more than {@value #MAX_EDIT_DISTANCE} lines have to be inserted or deleted, all the lines from the first to the last
+   * difference are reported as one change.
+   */
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+      int commonFirstLinesCount = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonFirstLinesCount++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
+      removeCommonLastLines(actualLines, expectedLines);
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines, new LinearSpaceMyersDiff<>(MAX_EDIT_DISTANCE));
+      int lineNumberShift = commonFirstLinesCount;
+      return patch.getDeltas().stream()
+                  .map(delta -> shift(delta, lineNumberShift))
+                  .toList();
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
+    String line;
     while ((line = reader.readLine()) != null) {
       lines.add(line);
     }
     return lines;
   }
+
+  private static void removeCommonLastLines(List<String> actualLines, List<String> expectedLines) {
+    int actualLastIndex = actualLines.size() - 1;
+    int expectedLastIndex = expectedLines.size() - 1;
+    while (actualLastIndex >= 0 && expectedLastIndex >= 0
+           && actualLines.get(actualLastIndex).equals(expectedLines.get(expectedLastIndex))) {
+      actualLastIndex--;
+      expectedLastIndex--;
+    }
+    actualLines.subList(actualLastIndex + 1, actualLines.size()).clear();
+    expectedLines.subList(expectedLastIndex + 1, expectedLines.size()).clear();
+  }
+
+  // deltas are computed on the lines following the common first lines, shift them to get the actual line numbers
+  private static Delta<String> shift(Delta<String> delta, int lineCount) {
+    if (lineCount == 0) return delta;
+    Chunk<String> original = shift(delta.getOriginal(), lineCount);
+    Chunk<String> revised = shift(delta.getRevised(), lineCount);
+    return switch (delta.getType()) {
+      case CHANGE -> new ChangeDelta<>(original, revised);
+      case DELETE -> new DeleteDelta<>(original, revised);
+      case INSERT -> new InsertDelta<>(original, revised);
+    };
+  }
+
+  private static Chunk<String> shift(Chunk<String> chunk, int lineCount) {
+    return new Chunk<>(chunk.getPosition() + lineCount, chunk.getLines());
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Multiset of elements grouped by hash code, used to find the elements equal to a given value without comparing the value to
+ * all the elements.
+ * <p>
+ * Elements are looked up in the group of the value hash code only, which is enough when the comparison is consistent with
+ * {@code hashCode} as the {@link org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy standard comparison
+ * strategy} is. Comparisons that can disagree with {@code hashCode} (like comparator based ones) must ask to check the other
+ * groups as well when the value group has no match, the results are then the same as comparing the value to all the elements.
+ */
+class ElementsByHashCode {
+
+  private final Map<Integer, List<Object>> elementsByHashCode = new HashMap<>();
+  // (element, value) -> true if element matches value, the order matters for non-symmetrical equals implementations
+  private final BiPredicate<Object, Object> matches;
+  private final boolean checkingOtherGroups;
+
+  ElementsByHashCode(Iterable<?> elements, BiPredicate<Object, Object> matches, boolean checkingOtherGroups) {
+    this.matches = matches;
+    this.checkingOtherGroups = checkingOtherGroups;
+    for (Object element : elements) {
+      elementsByHashCode.computeIfAbsent(hashCodeOf(element), hashCode -> new ArrayList<>()).add(element);
+    }
+  }
+
+  boolean contains(Object value) {
+    Integer hashCode = hashCodeOf(value);
+    if (containsIn(elementsByHashCode.get(hashCode), value)) return true;
+    if (!checkingOtherGroups) return false;
+    for (Map.Entry<Integer, List<Object>> entry : elementsByHashCode.entrySet()) {
+      if (!entry.getKey().equals(hashCode) && containsIn(entry.getValue(), value)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Removes one element matching the given value if any.
+   *
+   * @param value the value to remove
+   * @return true if an element was removed, false otherwise
+   */
+  boolean removeFirst(Object value) {
+    Integer hashCode = hashCodeOf(value);
+    if (removeFirstIn(hashCode, elementsByHashCode.get(hashCode), value)) return true;
+    if (!checkingOtherGroups) return false;
+    // no copy of the key set needed: we stop iterating as soon as an element (and possibly its group) is removed
+    for (Map.Entry<Integer, List<Object>> entry : elementsByHashCode.entrySet()) {
+      if (!entry.getKey().equals(hashCode) && removeFirstIn(entry.getKey(), entry.getValue(), value)) return true;
+    }
+    return false;
+  }
+
+  private boolean containsIn(List<Object> elements, Object value) {
+    if (elements == null) return false;
+    for (Object element : elements) {
+      if (matches.test(element, value)) return true;
+    }
+    return false;
+  }
+
+  private boolean removeFirstIn(Integer hashCode, List<Object> elements, Object value) {
+    if (elements == null) return false;
+    Iterator<Object> iterator = elements.iterator();
+    while (iterator.hasNext()) {
+      if (matches.test(iterator.next(), value)) {
+        iterator.remove();
+        if (elements.isEmpty()) elementsByHashCode.remove(hashCode);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // consistent with StandardComparisonStrategy.areEqual which compares arrays by content
+  private static int hashCodeOf(Object value) {
+    if (value == null) return 0;
+    if (value instanceof Object[] array) return Arrays.deepHashCode(array);
+    if (value.getClass().isArray()) return Arrays.deepHashCode(new Object[] { value });
+    return value.hashCode();
+  }
+
+}
@@ -23,6 +23,7 @@ import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
 import org.assertj.core.error.AssertionErrorCreator;
+import org.assertj.core.error.DeferredMessageAssertionError;
 import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
@@ -79,6 +80,29 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * flag indicating whether or not the assertion error messages are only built when first requested.
+   */
+  private boolean deferErrorMessages = Configuration.DEFER_ERROR_MESSAGES;
+
+  /**
+   * Sets whether the assertion error messages are only built when first requested.
+   *
+   * @param deferErrorMessages flag
+   */
+  public void setDeferErrorMessages(boolean deferErrorMessages) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.deferErrorMessages = deferErrorMessages;
+  }
+
+  /**
+   * Returns whether or not the assertion error messages are only built when first requested.
+   * @return whether or not the assertion error messages are only built when first requested.
+   */
+  public boolean isDeferErrorMessages() {
+    return deferErrorMessages;
+  }
+
   private Failures() {}
 
   public AssertionError failure(AssertionInfo info, ShouldBeEqual shouldBeEqual) {
@@ -105,8 +129,9 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
-    String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
-    AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
+    AssertionError assertionError = deferErrorMessages
+        ? new DeferredMessageAssertionError(messageFactory, info.description(), info.representation())
+        : assertionErrorCreator.assertionError(assertionErrorMessage(info, messageFactory));
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
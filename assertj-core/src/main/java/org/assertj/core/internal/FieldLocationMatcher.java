@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+
+/**
+ * Matches {@link FieldLocation}s against the field paths and regexes of a recursive operation rule (for example the fields to
+ * ignore).
+ * <p>
+ * The rule field paths and regexes are compiled when the matcher is created: the field paths are put in a hash set and the
+ * regexes are combined in a single {@code (?:regex1)|(?:regex2)} regex when possible. The decision for a given path to use in
+ * rules is then kept, since the fields of the elements of a collection share the same path, most field locations are matched
+ * with a single lookup.
+ * <p>
+ * Combining regexes renumbers their groups and could change the meaning of inline flags, regexes with back references,
+ * named groups, quotes, inline flags or compiled with flags are thus not combined but matched one by one.
+ * <p>
+ * The matcher is immutable, later changes to the given collections are not taken into account, a new matcher must be created
+ * for them.
+ */
+public final class FieldLocationMatcher {
+
+  // field locations of map entries are built from the keys, don't keep a decision per key of large maps
+  private static final int MAX_KEPT_DECISIONS = 10_000;
+  // back references, named groups, quotes and inline flags could change meaning once the regex is combined with others
+  private static final Pattern NOT_COMBINABLE_REGEX = Pattern.compile("\\\\[0-9kQ]|\\(\\?<[a-zA-Z]|\\(\\?[a-zA-Z-]+[:)]");
+
+  private final Set<String> fieldPaths;
+  private final List<Pattern> regexes;
+  // null if the regexes can't be combined
+  private final Pattern combinedRegex;
+  private final boolean matchingParentFields;
+  private final Map<String, Boolean> decisionByPath = new ConcurrentHashMap<>();
+
+  private FieldLocationMatcher(Collection<String> fieldPaths, List<Pattern> regexes, boolean matchingParentFields) {
+    this.fieldPaths = new HashSet<>(fieldPaths);
+    this.regexes = List.copyOf(regexes);
+    this.combinedRegex = combine(this.regexes);
+    this.matchingParentFields = matchingParentFields;
+  }
+
+  /**
+   * Returns a matcher for field locations whose path to use in rules or one of its parent paths is one of the given field paths
+   * or matches one of the given regexes.
+   *
+   * @param fieldPaths the field paths to match
+   * @param regexes the regexes to match
+   * @return a matcher for the given field paths and regexes and their child fields.
+   */
+  public static FieldLocationMatcher matchingFieldsAndTheirChildren(Collection<String> fieldPaths, List<Pattern> regexes) {
+    return new FieldLocationMatcher(fieldPaths, regexes, true);
+  }
+
+  /**
+   * Returns a matcher for field locations whose path to use in rules is one of the given field paths or matches one of the
+   * given regexes.
+   *
+   * @param fieldPaths the field paths to match
+   * @param regexes the regexes to match
+   * @return a matcher for the given field paths and regexes.
+   */
+  public static FieldLocationMatcher matchingFields(Collection<String> fieldPaths, List<Pattern> regexes) {
+    return new FieldLocationMatcher(fieldPaths, regexes, false);
+  }
+
+  public boolean matches(FieldLocation fieldLocation) {
+    if (fieldPaths.isEmpty() && regexes.isEmpty()) return false; // shortcut
+    return matches(fieldLocation.getPathToUseInRules());
+  }
+
+  private boolean matches(String path) {
+    // the root is not a field, it can't be matched as a parent field
+    if (matchingParentFields && path.isEmpty()) return false;
+    Boolean decision = decisionByPath.get(path);
+    if (decision == null) {
+      decision = matchesFieldOrParentField(path);
+      if (decisionByPath.size() < MAX_KEPT_DECISIONS) decisionByPath.put(path, decision);
+    }
+    return decision;
+  }
+
+  private boolean matchesFieldOrParentField(String path) {
+    if (fieldPaths.contains(path) || matchesARegex(path)) return true;
+    return matchingParentFields && matches(parent(path));
+  }
+
+  private boolean matchesARegex(String path) {
+    if (combinedRegex != null) return combinedRegex.matcher(path).matches();
+    return regexes.stream().anyMatch(regex -> regex.matcher(path).matches());
+  }
+
+  private static String parent(String path) {
+    int lastSeparator = path.lastIndexOf(FieldLocation.FIELD_SEPARATOR);
+    return lastSeparator < 0 ? "" : path.substring(0, lastSeparator);
+  }
+
+  private static Pattern combine(List<Pattern> regexes) {
+    if (regexes.isEmpty()) return null;
+    if (regexes.size() == 1) return regexes.get(0);
+    boolean combinable = regexes.stream()
+                                .allMatch(regex -> regex.flags() == 0 && !NOT_COMBINABLE_REGEX.matcher(regex.pattern()).find());
+    if (!combinable) return null;
+    try {
+      return Pattern.compile(regexes.stream().map(Pattern::pattern).collect(joining(")|(?:", "(?:", ")")));
+    } catch (@SuppressWarnings("unused") PatternSyntaxException e) {
+      return null;
+    }
+  }
+
+}
@@ -60,6 +60,14 @@ class IterableDiff<T> {
    * @return the list of elements in the first iterable that are not in the second, i.e. first - second
    */
   private List<T> unexpectedActualElements(Iterable<T> actual, Iterable<T> expected) {
+    if (comparisonStrategy.isStandard()) {
+      // look up actual elements by hash code instead of comparing them to all expected elements
+      ElementsByHashCode copyOfExpected = new ElementsByHashCode(expected,
+                                                                 (expectedElement, actualElement) -> comparisonStrategy.areEqual(actualElement,
+                                                                                                                                 expectedElement),
+                                                                 false);
+      return unmodifiableList(elementsNotRemovedFrom(copyOfExpected, actual));
+    }
     List<T> missingInFirst = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
     List<T> copyOfExpected = newArrayList(expected);
@@ -84,6 +92,11 @@ class IterableDiff<T> {
   }
 
   private List<T> missingActualElements(Iterable<T> actual, Iterable<T> expected) {
+    if (comparisonStrategy.isStandard()) {
+      // look up expected elements by hash code instead of comparing them to all actual elements
+      ElementsByHashCode copyOfActual = new ElementsByHashCode(actual, comparisonStrategy::areEqual, false);
+      return unmodifiableList(elementsNotRemovedFrom(copyOfActual, expected));
+    }
     List<T> missingInExpected = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
     List<T> copyOfActual = newArrayList(actual);
@@ -98,6 +111,16 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  // removes each of the given values from the given elements, returns the values that could not be removed
+  private static <T> List<T> elementsNotRemovedFrom(ElementsByHashCode elements, Iterable<T> values) {
+    List<T> valuesNotFound = new ArrayList<>();
+    for (T value : values) {
+      // remove the element otherwise a duplicate would be found in the case if there is one in values
+      if (!elements.removeFirst(value)) valuesNotFound.add(value);
+    }
+    return valuesNotFound;
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
@@ -13,6 +13,8 @@
 package org.assertj.core.internal;
 
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
@@ -85,11 +87,9 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Streams.stream;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -97,10 +97,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
@@ -397,17 +398,33 @@ public class Iterables {
     // if both actual and values are empty, then assertion passes.
     if (actualAsList.isEmpty() && expectedValues.length == 0) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
+    List<Object> unexpectedValues;
+    List<Object> missingValues;
+    if (comparisonStrategy.isStandard()) {
+      // look up values by hash code instead of comparing each expected value to all actual elements, the standard
+      // comparison strategy being consistent with hashCode, only the group of the value hash code needs to be checked
+      ElementsByHashCode actualElements = new ElementsByHashCode(actualAsList, comparisonStrategy::areEqual, false);
+      ElementsByHashCode expectedElements = new ElementsByHashCode(asList(expectedValues),
+                                                                   (expected, actualElement) -> comparisonStrategy.areEqual(actualElement,
+                                                                                                                            expected),
+                                                                   false);
+      unexpectedValues = actualAsList.stream().filter(actualElement -> !expectedElements.contains(actualElement))
+                                     .collect(toList());
+      missingValues = stream(expectedValues).filter(expected -> !actualElements.contains(expected))
+                                            .collect(toList());
+    } else {
+      // after the for loop, unexpected = expectedValues - actual
+      unexpectedValues = newArrayList(actualAsList);
+      // after the for loop, missing = actual - expectedValues
+      missingValues = newArrayList(expectedValues);
+      for (Object expected : expectedValues) {
+        if (iterableContains(actualAsList, expected)) {
+          // since expected was found in actual:
+          // -- it does not belong to the missing elements
+          iterablesRemove(missingValues, expected);
+          // -- it does not belong to the unexpected elements
+          iterablesRemove(unexpectedValues, expected);
+        }
       }
     }
 
@@ -1180,14 +1197,7 @@ public class Iterables {
   }
 
   public <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
-    assertNotNull(info, actual);
-    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
-
-    List<UnsatisfiedRequirement> unsatisfiedRequirements = stream(actual).map(element -> failsRequirements(requirements, element))
-                                                                         .flatMap(Optional::stream)
-                                                                         .collect(toList());
-    if (!unsatisfiedRequirements.isEmpty())
-      throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
+    assertAllSatisfy(info, actual, requirements, SEQUENTIAL_EVALUATION);
   }
 
   private static <E> Optional<UnsatisfiedRequirement> failsRequirements(Consumer<? super E> requirements, E element) {
@@ -1224,13 +1234,11 @@ public class Iterables {
       requireNonNull(consumer, "Elements in the Consumer<? super E>... expressing the assertions must not be null");
 
     checkSizes(actual, sizeOf(actual), consumers.length, info);
-    Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer = satisfiedElementsPerConsumer(actual, consumers);
-    // fail fast check
-    boolean someRequirementsAreNotMet = satisfiedElementsPerConsumer.stream().anyMatch(e -> e.getElements().isEmpty());
-    if (someRequirementsAreNotMet) throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
-
-    if (!areAllConsumersSatisfied(satisfiedElementsPerConsumer))
-      throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
+    // find a one to one matching between consumers and elements satisfying them
+    ConsumersToElementsMatching<E> matching = new ConsumersToElementsMatching<>(actual, consumers);
+    if (!matching.allConsumersAreMatched())
+      throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual, matching.unmatchedConsumerIndexes(),
+                                                                  matching.unmatchedElements()));
   }
 
   public <E> void assertSatisfiesOnlyOnce(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
@@ -1243,36 +1251,6 @@ public class Iterables {
     }
   }
 
-  @SafeVarargs
-  private static <E> Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer(Iterable<? extends E> actual,
-                                                                                       Consumer<? super E>... consumers) {
-    return stream(consumers).map(consumer -> new ElementsSatisfyingConsumer<E>(actual, consumer))
-                            .collect(toCollection(ArrayDeque::new));
-  }
-
-  private static <E> boolean areAllConsumersSatisfied(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer) {
-    // recursively test whether we can find any specific matching permutation that can meet the requirements
-    if (satisfiedElementsPerConsumer.isEmpty()) return true; // all consumers have been satisfied
-
-    // pop the head (i.e., elements satisfying the current consumer), process the tail (i.e., remaining consumers)...
-    ElementsSatisfyingConsumer<E> head = satisfiedElementsPerConsumer.remove();
-    List<E> elementsSatisfyingCurrentConsumer = head.getElements();
-    if (elementsSatisfyingCurrentConsumer.isEmpty()) return false;   // no element satisfies current consumer
-    // if we remove an element satisfying the current consumer from all remaining consumers, will other elements still satisfy
-    // the remaining consumers?
-    return elementsSatisfyingCurrentConsumer.stream()
-                                            .map(element -> removeElement(satisfiedElementsPerConsumer, element))
-                                            .anyMatch(Iterables::areAllConsumersSatisfied);
-  }
-
-  private static <E> Queue<ElementsSatisfyingConsumer<E>> removeElement(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer,
-                                                                        E element) {
-    // new Queue of ElementsSatisfyingConsumer without the given element, original ElementsSatisfyingConsumer are not modified.
-    return satisfiedElementsPerConsumer.stream()
-                                       .map(elementsSatisfyingConsumer -> elementsSatisfyingConsumer.withoutElement(element))
-                                       .collect(toCollection(ArrayDeque::new));
-  }
-
   public <ACTUAL_ELEMENT, OTHER_ELEMENT> void assertZipSatisfy(AssertionInfo info,
                                                                Iterable<? extends ACTUAL_ELEMENT> actual,
                                                                Iterable<OTHER_ELEMENT> other,
@@ -1302,70 +1280,170 @@ public class Iterables {
   }
 
   public <E> void assertAnySatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
-    assertNotNull(info, actual);
-    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    assertAnySatisfy(info, actual, requirements, SEQUENTIAL_EVALUATION);
+  }
 
-    List<UnsatisfiedRequirement> unsatisfiedRequirements = new ArrayList<>();
-    for (E element : actual) {
-      Optional<UnsatisfiedRequirement> result = failsRequirements(requirements, element);
-      if (result.isEmpty()) return; // element satisfied the requirements
-      unsatisfiedRequirements.add(result.get());
-    }
+  public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertAllMatch(info, actual, predicate, predicateDescription, SEQUENTIAL_EVALUATION);
+  }
 
-    throw failures.failure(info, elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
+  public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions) {
+    assertNoneSatisfy(info, actual, restrictions, SEQUENTIAL_EVALUATION);
   }
 
-  public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+  public <E> void assertAnyMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
                                  PredicateDescription predicateDescription) {
+    assertAnyMatch(info, actual, predicate, predicateDescription, SEQUENTIAL_EVALUATION);
+  }
+
+  public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription) {
+    assertNoneMatch(info, actual, predicate, predicateDescription, SEQUENTIAL_EVALUATION);
+  }
+
+  // the following assertions evaluate the elements in parallel with the given executor and report the same errors as their
+  // sequential counterparts, in the same order
+
+  public <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                   Executor executor) {
+    assertAllSatisfy(info, actual, requirements, parallelEvaluationOn(executor));
+  }
+
+  public <E> void assertAnySatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                   Executor executor) {
+    assertAnySatisfy(info, actual, requirements, parallelEvaluationOn(executor));
+  }
+
+  public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions,
+                                    Executor executor) {
+    assertNoneSatisfy(info, actual, restrictions, parallelEvaluationOn(executor));
+  }
+
+  public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription, Executor executor) {
+    assertAllMatch(info, actual, predicate, predicateDescription, parallelEvaluationOn(executor));
+  }
+
+  public <E> void assertAnyMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription, Executor executor) {
+    assertAnyMatch(info, actual, predicate, predicateDescription, parallelEvaluationOn(executor));
+  }
+
+  public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription, Executor executor) {
+    assertNoneMatch(info, actual, predicate, predicateDescription, parallelEvaluationOn(executor));
+  }
+
+  private <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                    ElementsEvaluation evaluation) {
     assertNotNull(info, actual);
-    predicates.assertIsNotNull(predicate);
-    List<? extends E> nonMatches = stream(actual).filter(predicate.negate()).collect(toList());
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    List<Optional<UnsatisfiedRequirement>> results = evaluation.map(actual, element -> failsRequirements(requirements, element));
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = results.stream().flatMap(Optional::stream).collect(toList());
+    if (!unsatisfiedRequirements.isEmpty())
+      throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
+  }
 
-    if (!nonMatches.isEmpty()) {
-      throw failures.failure(info, elementsShouldMatch(actual,
-                                                       nonMatches.size() == 1 ? nonMatches.get(0) : nonMatches,
-                                                       predicateDescription));
-    }
+  private <E> void assertAnySatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                    ElementsEvaluation evaluation) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    List<Optional<UnsatisfiedRequirement>> results = evaluation.mapUntil(actual,
+                                                                         element -> failsRequirements(requirements, element),
+                                                                         Optional::isEmpty);
+    // the evaluation stops at the first element satisfying the requirements
+    if (!results.isEmpty() && results.get(results.size() - 1).isEmpty()) return;
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = results.stream().flatMap(Optional::stream).collect(toList());
+    throw failures.failure(info, elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
   }
 
-  public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions) {
+  private <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions,
+                                     ElementsEvaluation evaluation) {
     assertNotNull(info, actual);
     requireNonNull(restrictions, "The Consumer<T> expressing the restrictions must not be null");
-    List<E> erroneousElements = stream(actual).map(element -> failsRestrictions(element, restrictions))
-                                              .flatMap(Optional::stream)
-                                              .collect(toList());
+    // elements are supposed not to meet the given restrictions
+    List<E> erroneousElements = evaluation.filter(actual, byPassingAssertions(restrictions), false);
     if (!erroneousElements.isEmpty()) throw failures.failure(info, noElementsShouldSatisfy(actual, erroneousElements));
   }
 
-  private <E> Optional<E> failsRestrictions(E element, Consumer<? super E> restrictions) {
-    try {
-      restrictions.accept(element);
-    } catch (AssertionError e) {
-      // element is supposed not to meet the given restrictions
-      return Optional.empty();
+  private <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription, ElementsEvaluation evaluation) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    List<E> nonMatches = evaluation.filter(actual, predicate.negate(), false);
+    if (!nonMatches.isEmpty()) {
+      throw failures.failure(info, elementsShouldMatch(actual,
+                                                       nonMatches.size() == 1 ? nonMatches.get(0) : nonMatches,
+                                                       predicateDescription));
     }
-    // element meets the given restrictions!
-    return Optional.of(element);
   }
 
-  public <E> void assertAnyMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
-                                 PredicateDescription predicateDescription) {
+  private <E> void assertAnyMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription, ElementsEvaluation evaluation) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    if (stream(actual).noneMatch(predicate)) {
+    if (evaluation.filter(actual, predicate, true).isEmpty()) {
       throw failures.failure(info, anyElementShouldMatch(actual, predicateDescription));
     }
   }
 
-  public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
-                                  PredicateDescription predicateDescription) {
+  private <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                   PredicateDescription predicateDescription, ElementsEvaluation evaluation) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .ifPresent(e -> {
-                    throw failures.failure(info, noElementsShouldMatch(actual, e, predicateDescription));
-                  });
+    List<E> matches = evaluation.filter(actual, predicate, true);
+    if (!matches.isEmpty()) {
+      throw failures.failure(info, noElementsShouldMatch(actual, matches.get(0), predicateDescription));
+    }
+  }
+
+  /**
+   * Evaluates a function on the elements of an iterable in their order, up to the first result matching a stop condition.
+   * <p>
+   * The sequential and parallel assertions only differ by how they evaluate the elements, they report failures the same way.
+   */
+  private interface ElementsEvaluation {
+
+    <T, R> List<R> mapUntil(Iterable<? extends T> elements, Function<? super T, ? extends R> function,
+                            Predicate<? super R> stopCondition);
+
+    default <T, R> List<R> map(Iterable<? extends T> elements, Function<? super T, ? extends R> function) {
+      return mapUntil(elements, function, result -> false);
+    }
+
+    default <T> List<T> filter(Iterable<? extends T> elements, Predicate<? super T> predicate, boolean firstMatchOnly) {
+      // singletonList supports null elements, unlike Optional
+      Function<T, List<T>> matching = element -> predicate.test(element) ? singletonList(element) : emptyList();
+      Predicate<List<T>> stopCondition = firstMatchOnly ? match -> !match.isEmpty() : match -> false;
+      return mapUntil(elements, matching, stopCondition).stream().flatMap(List::stream).collect(toList());
+    }
+  }
+
+  // elements are pulled one at a time from the iterable, the remaining ones are not pulled once the evaluation stops
+  private static final ElementsEvaluation SEQUENTIAL_EVALUATION = new ElementsEvaluation() {
+    @Override
+    public <T, R> List<R> mapUntil(Iterable<? extends T> elements, Function<? super T, ? extends R> function,
+                                   Predicate<? super R> stopCondition) {
+      List<R> results = new ArrayList<>();
+      for (T element : elements) {
+        R result = function.apply(element);
+        results.add(result);
+        if (stopCondition.test(result)) break;
+      }
+      return results;
+    }
+  };
+
+  private static ElementsEvaluation parallelEvaluationOn(Executor executor) {
+    requireNonNull(executor, "The executor should not be null");
+    return new ElementsEvaluation() {
+      @Override
+      public <T, R> List<R> mapUntil(Iterable<? extends T> elements, Function<? super T, ? extends R> function,
+                                     Predicate<? super R> stopCondition) {
+        return ParallelEvaluation.mapUntil(newArrayList(elements), function, stopCondition, executor);
+      }
+    };
   }
 
   /**
@@ -1393,13 +1471,21 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (comparisonStrategy.isStandard()) {
+      // IterableDiff looks up values by hash code with the standard comparison strategy
+      IterableDiff<Object> diff = diff(newArrayList(actual), asList(values), comparisonStrategy);
+      notExpected = diff.unexpected;
+      notFound = diff.missing;
+    } else {
+      notExpected = newArrayList(actual);
+      notFound = newArrayList(values);
+      for (Object value : values) {
+        if (iterableContains(notExpected, value)) {
+          iterablesRemoveFirst(notExpected, value);
+          iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
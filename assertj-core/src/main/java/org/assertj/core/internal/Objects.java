@@ -12,14 +12,11 @@
  */
 package org.assertj.core.internal;
 
-import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Objects.deepEquals;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursive;
 import static org.assertj.core.error.ShouldBeEqualByComparingOnlyGivenFields.shouldBeEqualComparingOnlyGivenFields;
@@ -55,10 +52,8 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
-import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -314,7 +309,7 @@ public class Objects {
     List<Object> rejectedValues = new LinkedList<>();
     List<Object> expectedValues = new LinkedList<>();
     List<String> nullFields = new LinkedList<>();
-    for (Field field : getDeclaredFieldsIncludingInherited(actual.getClass())) {
+    for (Field field : declaredFieldsIncludingInherited(actual)) {
       if (!canReadFieldValue(field, actual)) continue;
       String fieldName = field.getName();
       Object otherFieldValue = getPropertyOrFieldValue(other, fieldName);
@@ -388,7 +383,7 @@ public class Objects {
                                                               Map<String, Comparator<?>> comparatorByPropertyOrField,
                                                               TypeComparators comparatorByType,
                                                               String[] givenIgnoredFields) {
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
+    Set<Field> declaredFieldsIncludingInherited = declaredFieldsIncludingInherited(actual);
     List<String> fieldsNames = new LinkedList<>();
     List<Object> expectedValues = new LinkedList<>();
     List<Object> rejectedValues = new LinkedList<>();
@@ -436,7 +431,7 @@ public class Objects {
   public <A> void assertHasNoNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                           String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
+    Set<Field> declaredFieldsIncludingInherited = declaredFieldsIncludingInherited(actual);
     List<String> nullFieldNames = new LinkedList<>();
     Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
     for (Field field : declaredFieldsIncludingInherited) {
@@ -454,7 +449,7 @@ public class Objects {
   public <A> void assertHasAllNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                            String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFields = getDeclaredFieldsIncludingInherited(actual.getClass());
+    Set<Field> declaredFields = declaredFieldsIncludingInherited(actual);
     Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
     List<String> nonNullFieldNames = declaredFields.stream()
                                                    .filter(field -> !ignoredFields.contains(field.getName()))
@@ -484,26 +479,23 @@ public class Objects {
 
   public static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
     requireNonNull(clazz, "expecting Class parameter not to be null");
-    Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(clazz);
-    // get fields declared in superClass
-    Class<?> superClass = clazz.getSuperclass();
-    while (!isInJavaLangPackage(superClass)) {
-      declaredFields.addAll(getDeclaredFieldsIgnoringSyntheticAndStatic(superClass));
-      superClass = superClass.getSuperclass();
-    }
-    return declaredFields;
+    // the cached fields must not be modified by callers
+    return new LinkedHashSet<>(DeclaredFields.of(clazz).fieldsIncludingInherited());
   }
 
+  /**
+   * Returns the names of the fields declared by the given class and its superclasses, the returned set can't be modified.
+   *
+   * @param clazz the class to get the fields names of.
+   * @return the names of the fields of the given class.
+   */
   public static Set<String> getFieldsNames(Class<?> clazz) {
-    return getDeclaredFieldsIncludingInherited(clazz).stream()
-                                                     .map(Field::getName)
-                                                     .collect(toSet());
+    requireNonNull(clazz, "expecting Class parameter not to be null");
+    return DeclaredFields.of(clazz).fieldsNamesIncludingInherited();
   }
 
-  private static Set<Field> getDeclaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
-    Field[] declaredFields = clazz.getDeclaredFields();
-    return stream(declaredFields).filter(field -> !(field.isSynthetic() || Modifier.isStatic(field.getModifiers())))
-                                 .collect(toCollection(LinkedHashSet::new));
+  private static Set<Field> declaredFieldsIncludingInherited(Object actual) {
+    return DeclaredFields.of(actual.getClass()).fieldsIncludingInherited();
   }
 
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other,
@@ -542,12 +534,7 @@ public class Objects {
     assertNotNull(info, actual);
     checkArgument(names != null, "Given fields/properties are null");
     List<String> expectedFields = stream(names).sorted().collect(toList());
-    Field[] declaredFields = actual.getClass().getDeclaredFields();
-    List<String> actualFields = stream(declaredFields).filter(field -> !isStatic(field.getModifiers()))
-                                                      .filter(field -> !field.isSynthetic())
-                                                      .map(Field::getName)
-                                                      .sorted()
-                                                      .collect(toList());
+    List<String> actualFields = DeclaredFields.of(actual.getClass()).sortedFieldsNames();
     if (!expectedFields.equals(actualFields)) {
       List<String> fieldsNotFound = stream(names).filter(name -> !actualFields.contains(name)).collect(toList());
       List<String> extraFields = actualFields.stream()
@@ -0,0 +1,189 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a function on the elements of a list in parallel while keeping the sequential evaluation results: the results are
+ * in the elements order and when the function fails on some elements, the failure of the first of them is rethrown.
+ * <p>
+ * The elements are recursively split in fork/join tasks when evaluated on a {@link ForkJoinPool}, in chunks submitted to the
+ * executor otherwise. The elements after a failing one, or after the one whose result stops the evaluation, are not evaluated
+ * once it is known.
+ */
+public final class ParallelEvaluation<T, R> {
+
+  // each worker gets several chunks to balance the load when the function cost varies between elements
+  private static final int CHUNKS_PER_WORKER = 4;
+
+  private final List<? extends T> elements;
+  private final Function<? super T, ? extends R> function;
+  private final Predicate<? super R> stopCondition;
+  private final Object[] results;
+  private final int chunkSize;
+  // index of the first element whose evaluation failed or whose result stops the evaluation, guarded by this
+  private volatile int stopIndex = Integer.MAX_VALUE;
+  // null when the evaluation was stopped by a result
+  private Throwable failure;
+
+  private ParallelEvaluation(List<? extends T> elements, Function<? super T, ? extends R> function,
+                             Predicate<? super R> stopCondition, int parallelism) {
+    this.elements = elements;
+    this.function = function;
+    this.stopCondition = stopCondition;
+    this.results = new Object[elements.size()];
+    this.chunkSize = Math.max(1, elements.size() / (parallelism * CHUNKS_PER_WORKER));
+  }
+
+  /**
+   * Returns the results of the given function applied to each element, in the elements order.
+   *
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @param elements the elements to apply the function to
+   * @param function the function to apply
+   * @param executor the executor evaluating the function
+   * @return the results of the function
+   * @throws RuntimeException the exception thrown by the function on the first failing element
+   */
+  public static <T, R> List<R> map(List<? extends T> elements, Function<? super T, ? extends R> function, Executor executor) {
+    return mapUntil(elements, function, result -> false, executor);
+  }
+
+  /**
+   * Returns the results of the given function applied to each element up to the first one whose result matches the given
+   * stop condition, in the elements order.
+   * <p>
+   * The last result is the one matching the stop condition, the elements after it may have been evaluated but their results
+   * and failures are discarded. All the results are returned when none matches the stop condition.
+   *
+   * @param <T> the type of the elements
+   * @param <R> the type of the results
+   * @param elements the elements to apply the function to
+   * @param function the function to apply
+   * @param stopCondition the condition on the results stopping the evaluation
+   * @param executor the executor evaluating the function
+   * @return the results of the function up to the first one matching the stop condition
+   * @throws RuntimeException the exception thrown by the function on the first failing element before the stop
+   */
+  public static <T, R> List<R> mapUntil(List<? extends T> elements, Function<? super T, ? extends R> function,
+                                        Predicate<? super R> stopCondition, Executor executor) {
+    requireNonNull(function, "The function should not be null");
+    requireNonNull(stopCondition, "The stop condition should not be null");
+    requireNonNull(executor, "The executor should not be null");
+    return new ParallelEvaluation<T, R>(elements, function, stopCondition, parallelismOf(executor)).evaluateOn(executor);
+  }
+
+  /**
+   * Returns the elements matching the given predicate, in the elements order.
+   *
+   * @param <T> the type of the elements
+   * @param elements the elements to filter
+   * @param predicate the predicate to test the elements with
+   * @param executor the executor testing the elements
+   * @return the elements matching the predicate
+   * @throws RuntimeException the exception thrown by the predicate on the first failing element
+   */
+  public static <T> List<T> filter(List<? extends T> elements, Predicate<? super T> predicate, Executor executor) {
+    requireNonNull(predicate, "The predicate should not be null");
+    List<Boolean> matches = map(elements, predicate::test, executor);
+    List<T> filteredElements = new ArrayList<>();
+    for (int i = 0; i < matches.size(); i++) {
+      if (matches.get(i)) filteredElements.add(elements.get(i));
+    }
+    return filteredElements;
+  }
+
+  private static int parallelismOf(Executor executor) {
+    return executor instanceof ForkJoinPool pool ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<R> evaluateOn(Executor executor) {
+    if (executor instanceof ForkJoinPool pool) {
+      pool.invoke(new EvaluationTask(0, results.length));
+    } else {
+      List<CompletableFuture<Void>> chunks = new ArrayList<>();
+      for (int from = 0; from < results.length; from += chunkSize) {
+        int chunkStart = from;
+        int chunkEnd = Math.min(from + chunkSize, results.length);
+        chunks.add(CompletableFuture.runAsync(() -> evaluate(chunkStart, chunkEnd), executor));
+      }
+      CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+    }
+    if (failure instanceof RuntimeException runtimeException) throw runtimeException;
+    if (failure instanceof Error error) throw error;
+    if (failure != null) throw new IllegalStateException(failure);
+    int evaluatedElementsCount = stopIndex == Integer.MAX_VALUE ? results.length : stopIndex + 1;
+    List<R> evaluationResults = new ArrayList<>(evaluatedElementsCount);
+    for (int i = 0; i < evaluatedElementsCount; i++) {
+      evaluationResults.add((R) results[i]);
+    }
+    return evaluationResults;
+  }
+
+  private void evaluate(int from, int to) {
+    for (int i = from; i < to && i < stopIndex; i++) {
+      try {
+        R result = function.apply(elements.get(i));
+        results[i] = result;
+        if (stopCondition.test(result)) {
+          stopAt(i, null);
+          return;
+        }
+      } catch (Throwable t) {
+        stopAt(i, t);
+        return;
+      }
+    }
+  }
+
+  private synchronized void stopAt(int index, Throwable t) {
+    if (index < stopIndex) {
+      stopIndex = index;
+      failure = t;
+    }
+  }
+
+  private final class EvaluationTask extends RecursiveAction {
+
+    private final int from;
+    private final int to;
+
+    private EvaluationTask(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkSize) {
+        evaluate(from, to);
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(new EvaluationTask(from, middle), new EvaluationTask(middle, to));
+      }
+    }
+  }
+
+}
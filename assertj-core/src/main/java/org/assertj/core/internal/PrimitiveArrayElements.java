@@ -0,0 +1,360 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.Arrays;
+
+/**
+ * Read access to the elements of a primitive array without reflection nor boxing, used by {@link org.assertj.core.internal.Arrays}
+ * to check primitive arrays compared with the standard comparison strategy.
+ * <p>
+ * Elements are compared through a {@code long} key which is the element value for integral types and the bits of the value
+ * for floating point types, this is consistent with the equals method of the corresponding wrapper type (for example
+ * {@code NaN} is equal to itself and {@code 0.0} is not equal to {@code -0.0}).
+ * <p>
+ * The checks only tell whether an assertion succeeds, the error message of a failing assertion is built by the generic code
+ * in {@link org.assertj.core.internal.Arrays}.
+ */
+abstract class PrimitiveArrayElements {
+
+  // below this number of values, scanning the array for each value is cheaper than sorting it
+  private static final int LINEAR_SEARCH_MAX_VALUES = 32;
+
+  /**
+   * Returns the elements of the given array if it is a primitive array, {@code null} otherwise.
+   *
+   * @param array the array to read
+   * @return the elements of the given array if it is a primitive array, {@code null} otherwise.
+   */
+  static PrimitiveArrayElements of(Object array) {
+    if (array instanceof int[] ints) return new IntArrayElements(ints);
+    if (array instanceof long[] longs) return new LongArrayElements(longs);
+    if (array instanceof double[] doubles) return new DoubleArrayElements(doubles);
+    if (array instanceof byte[] bytes) return new ByteArrayElements(bytes);
+    if (array instanceof float[] floats) return new FloatArrayElements(floats);
+    if (array instanceof short[] shorts) return new ShortArrayElements(shorts);
+    if (array instanceof char[] chars) return new CharArrayElements(chars);
+    if (array instanceof boolean[] booleans) return new BooleanArrayElements(booleans);
+    return null;
+  }
+
+  abstract int size();
+
+  abstract long keyAt(int index);
+
+  /**
+   * Compares the elements at the given indexes with the natural ordering of their wrapper type.
+   */
+  abstract int compare(int index, int otherIndex);
+
+  boolean containsAll(PrimitiveArrayElements values) {
+    if (values.size() <= LINEAR_SEARCH_MAX_VALUES) {
+      for (int i = 0; i < values.size(); i++) {
+        if (indexOf(values.keyAt(i)) < 0) return false;
+      }
+      return true;
+    }
+    long[] sortedKeys = sortedKeys();
+    for (int i = 0; i < values.size(); i++) {
+      if (Arrays.binarySearch(sortedKeys, values.keyAt(i)) < 0) return false;
+    }
+    return true;
+  }
+
+  boolean containsNoneOf(PrimitiveArrayElements values) {
+    if (values.size() <= LINEAR_SEARCH_MAX_VALUES) {
+      for (int i = 0; i < values.size(); i++) {
+        if (indexOf(values.keyAt(i)) >= 0) return false;
+      }
+      return true;
+    }
+    long[] sortedKeys = sortedKeys();
+    for (int i = 0; i < values.size(); i++) {
+      if (Arrays.binarySearch(sortedKeys, values.keyAt(i)) >= 0) return false;
+    }
+    return true;
+  }
+
+  // same distinct elements, duplicates are ignored
+  boolean containsOnly(PrimitiveArrayElements values) {
+    long[] sortedKeys = sortedKeys();
+    long[] sortedValuesKeys = values.sortedKeys();
+    int i = 0;
+    int j = 0;
+    while (i < sortedKeys.length && j < sortedValuesKeys.length) {
+      if (sortedKeys[i] != sortedValuesKeys[j]) return false;
+      long key = sortedKeys[i];
+      while (i < sortedKeys.length && sortedKeys[i] == key) i++;
+      while (j < sortedValuesKeys.length && sortedValuesKeys[j] == key) j++;
+    }
+    return i == sortedKeys.length && j == sortedValuesKeys.length;
+  }
+
+  boolean containsExactly(PrimitiveArrayElements values) {
+    return size() == values.size() && regionMatches(0, values);
+  }
+
+  boolean containsExactlyInAnyOrder(PrimitiveArrayElements values) {
+    return size() == values.size() && Arrays.equals(sortedKeys(), values.sortedKeys());
+  }
+
+  boolean containsSequence(PrimitiveArrayElements sequence) {
+    int lastIndexWhereSequenceCanBeFound = size() - sequence.size();
+    for (int index = 0; index <= lastIndexWhereSequenceCanBeFound; index++) {
+      if (regionMatches(index, sequence)) return true;
+    }
+    return false;
+  }
+
+  boolean containsSubsequence(PrimitiveArrayElements subsequence) {
+    int subsequenceIndex = 0;
+    for (int index = 0; index < size() && subsequenceIndex < subsequence.size(); index++) {
+      if (keyAt(index) == subsequence.keyAt(subsequenceIndex)) subsequenceIndex++;
+    }
+    return subsequenceIndex == subsequence.size();
+  }
+
+  boolean startsWith(PrimitiveArrayElements sequence) {
+    return size() >= sequence.size() && regionMatches(0, sequence);
+  }
+
+  boolean endsWith(PrimitiveArrayElements sequence) {
+    return size() >= sequence.size() && regionMatches(size() - sequence.size(), sequence);
+  }
+
+  boolean hasDuplicates() {
+    long[] sortedKeys = sortedKeys();
+    for (int i = 1; i < sortedKeys.length; i++) {
+      if (sortedKeys[i - 1] == sortedKeys[i]) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the index of the first element greater than its successor, -1 if the elements are sorted.
+   */
+  int indexOfFirstUnsortedElement() {
+    for (int i = 0; i < size() - 1; i++) {
+      if (compare(i, i + 1) > 0) return i;
+    }
+    return -1;
+  }
+
+  private int indexOf(long key) {
+    for (int i = 0; i < size(); i++) {
+      if (keyAt(i) == key) return i;
+    }
+    return -1;
+  }
+
+  private boolean regionMatches(int startIndex, PrimitiveArrayElements sequence) {
+    for (int i = 0; i < sequence.size(); i++) {
+      if (keyAt(startIndex + i) != sequence.keyAt(i)) return false;
+    }
+    return true;
+  }
+
+  private long[] sortedKeys() {
+    long[] keys = new long[size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyAt(i);
+    }
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  private static final class IntArrayElements extends PrimitiveArrayElements {
+    private final int[] array;
+
+    IntArrayElements(int[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Integer.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class LongArrayElements extends PrimitiveArrayElements {
+    private final long[] array;
+
+    LongArrayElements(long[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Long.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class DoubleArrayElements extends PrimitiveArrayElements {
+    private final double[] array;
+
+    DoubleArrayElements(double[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return Double.doubleToLongBits(array[index]);
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Double.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class ByteArrayElements extends PrimitiveArrayElements {
+    private final byte[] array;
+
+    ByteArrayElements(byte[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Byte.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class FloatArrayElements extends PrimitiveArrayElements {
+    private final float[] array;
+
+    FloatArrayElements(float[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return Float.floatToIntBits(array[index]);
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Float.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class ShortArrayElements extends PrimitiveArrayElements {
+    private final short[] array;
+
+    ShortArrayElements(short[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Short.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class CharArrayElements extends PrimitiveArrayElements {
+    private final char[] array;
+
+    CharArrayElements(char[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Character.compare(array[index], array[otherIndex]);
+    }
+  }
+
+  private static final class BooleanArrayElements extends PrimitiveArrayElements {
+    private final boolean[] array;
+
+    BooleanArrayElements(boolean[] array) {
+      this.array = array;
+    }
+
+    @Override
+    int size() {
+      return array.length;
+    }
+
+    @Override
+    long keyAt(int index) {
+      return array[index] ? 1 : 0;
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Boolean.compare(array[index], array[otherIndex]);
+    }
+  }
+
+}
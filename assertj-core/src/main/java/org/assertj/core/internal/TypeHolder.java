@@ -23,8 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.assertj.core.util.ClassNameComparator;
 
@@ -38,6 +40,8 @@ abstract class TypeHolder<T> {
   private static final Comparator<Class<?>> DEFAULT_CLASS_COMPARATOR = ClassNameComparator.INSTANCE;
 
   protected final Map<Class<?>, T> typeHolder;
+  // the entity resolved for each looked up class, empty when none is relevant, cleared whenever the registered entities change
+  private final Map<Class<?>, Optional<T>> entityByResolvedType = new ConcurrentHashMap<>();
 
   public TypeHolder() {
     this(DEFAULT_CLASS_COMPARATOR);
@@ -59,8 +63,12 @@ abstract class TypeHolder<T> {
    * @return the most relevant entity, or {@code null} if on entity could be found
    */
   public T get(Class<?> clazz) {
+    return entityByResolvedType.computeIfAbsent(clazz, this::resolveEntity).orElse(null);
+  }
+
+  private Optional<T> resolveEntity(Class<?> clazz) {
     Class<?> relevantType = getRelevantClass(clazz);
-    return relevantType == null ? null : typeHolder.get(relevantType);
+    return relevantType == null ? Optional.empty() : Optional.ofNullable(typeHolder.get(relevantType));
   }
 
   /**
@@ -71,6 +79,7 @@ abstract class TypeHolder<T> {
    */
   public void put(Class<?> clazz, T entity) {
     typeHolder.put(clazz, entity);
+    entityByResolvedType.clear();
   }
 
   /**
@@ -95,6 +104,7 @@ abstract class TypeHolder<T> {
    */
   public void clear() {
     typeHolder.clear();
+    entityByResolvedType.clear();
   }
 
   /**
@@ -13,6 +13,7 @@
 package org.assertj.core.presentation;
 
 import static java.lang.Integer.toHexString;
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
@@ -47,6 +48,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -105,8 +108,16 @@ public class StandardRepresentation implements Representation {
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+  private static int maxFailuresDisplayed = Configuration.MAX_FAILURES_DISPLAYED;
 
   private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
+  // the type checks only depend on the class of the object to represent, they are done once per class
+  private static final ClassValue<TypeFormatter> FORMATTER_BY_TYPE = new ClassValue<>() {
+    @Override
+    protected TypeFormatter computeValue(Class<?> type) {
+      return resolveFormatter(type);
+    }
+  };
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -119,6 +130,11 @@ public class StandardRepresentation implements Representation {
       DirectoryStream.class,
   };
 
+  @FunctionalInterface
+  private interface TypeFormatter {
+    String format(StandardRepresentation representation, Object object);
+  }
+
   protected enum GroupType {
 
     ITERABLE("iterable"), ARRAY("array");
@@ -175,6 +191,16 @@ public class StandardRepresentation implements Representation {
     maxStackTraceElementsDisplayed = value;
   }
 
+  public static int getMaxFailuresDisplayed() {
+    return maxFailuresDisplayed;
+  }
+
+  public static void setMaxFailuresDisplayed(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxFailuresDisplayed must be >= 1, but was %s", value);
+    maxFailuresDisplayed = value;
+  }
+
   public static int getMaxElementsForPrinting() {
     return maxElementsForPrinting;
   }
@@ -208,65 +234,97 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy strategy) return toStringOf(strategy);
-    if (object instanceof Calendar calendar) return toStringOf(calendar);
-    if (object instanceof Class<?> clazz) return toStringOf(clazz);
-    if (object instanceof Date date) return toStringOf(date);
-    if (object instanceof Duration duration) return toStringOf(duration);
-    if (object instanceof LocalDate date) return toStringOf(date);
-    if (object instanceof YearMonth month) return toStringOf(month);
-    if (object instanceof LocalDateTime time) return toStringOf(time);
-    if (object instanceof OffsetDateTime time) return toStringOf(time);
-    if (object instanceof ZonedDateTime time) return toStringOf(time);
-    if (object instanceof LongAdder adder) return toStringOf(adder);
+    return FORMATTER_BY_TYPE.get(object.getClass()).format(this, object);
+  }
+
+  /**
+   * Resolves how to format the instances of the given type, the type checks are made in the order that gives the most
+   * relevant representation, ex: a {@code Path} is an {@code Iterable} but it is best represented with its own toString.
+   * <p>
+   * The formatters call the overridable {@code toStringOf} methods of the representation they are given.
+   */
+  private static TypeFormatter resolveFormatter(Class<?> type) {
+    if (ComparatorBasedComparisonStrategy.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ComparatorBasedComparisonStrategy) object);
+    if (Calendar.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Calendar) object);
+    if (Class.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Class<?>) object);
+    if (Date.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Date) object);
+    if (Duration.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Duration) object);
+    if (LocalDate.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((LocalDate) object);
+    if (YearMonth.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((YearMonth) object);
+    if (LocalDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((LocalDateTime) object);
+    if (OffsetDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((OffsetDateTime) object);
+    if (ZonedDateTime.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ZonedDateTime) object);
+    if (LongAdder.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((LongAdder) object);
     // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
     // representation, if that's not the case (e.g., an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class)) return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
-      return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
-      return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File file) return toStringOf(file);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (isUnquotedString(object)) return toUnquotedStringOf(object);
-    if (object instanceof String string) return toStringOf(string);
-    if (object instanceof CharSequence sequence) return toStringOf(sequence);
-    if (object instanceof Character character) return toStringOf(character);
-    if (object instanceof Comparator<?> comparator) return toStringOf(comparator);
-    if (object instanceof SimpleDateFormat format) return toStringOf(format);
-    if (object instanceof PredicateDescription description) return toStringOf(description);
-    if (object instanceof Future<?> future) return toStringOf(future);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?> collection) return smartFormat(collection);
-    if (object instanceof Map<?, ?> map) return toStringOf(map);
-    if (object instanceof Tuple tuple) return toStringOf(tuple);
-    if (object instanceof Map.Entry<?, ?> entry) return toStringOf(entry);
-    if (object instanceof Method method) return method.toGenericString();
-    if (object instanceof InsertDelta<?> delta) return toStringOf(delta);
-    if (object instanceof ChangeDelta<?> delta) return toStringOf(delta);
-    if (object instanceof DeleteDelta<?> delta) return toStringOf(delta);
+    if (isSubtypeNotOverridingToString(type, AtomicReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicReference<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicMarkableReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicMarkableReference<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicStampedReference.class))
+      return (representation, object) -> representation.toStringOf((AtomicStampedReference<?>) object);
+    if (AtomicIntegerFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicIntegerFieldUpdater.class.getSimpleName();
+    if (AtomicLongFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicLongFieldUpdater.class.getSimpleName();
+    if (AtomicReferenceFieldUpdater.class.isAssignableFrom(type))
+      return (representation, object) -> AtomicReferenceFieldUpdater.class.getSimpleName();
+    if (File.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((File) object);
+    if (Path.class.isAssignableFrom(type)) return StandardRepresentation::fallbackToStringOf;
+    if (isUnquotedString(type)) return StandardRepresentation::toUnquotedStringOf;
+    if (String.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((String) object);
+    if (CharSequence.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((CharSequence) object);
+    if (Character.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Character) object);
+    if (Comparator.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Comparator<?>) object);
+    if (SimpleDateFormat.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((SimpleDateFormat) object);
+    if (PredicateDescription.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((PredicateDescription) object);
+    if (Future.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Future<?>) object);
+    if (type.isArray()) return StandardRepresentation::formatArray;
+    if (Collection.class.isAssignableFrom(type))
+      return (representation, object) -> representation.smartFormat((Collection<?>) object);
+    if (Map.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Map<?, ?>) object);
+    if (Tuple.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Tuple) object);
+    if (Map.Entry.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Map.Entry<?, ?>) object);
+    if (Method.class.isAssignableFrom(type)) return (representation, object) -> ((Method) object).toGenericString();
+    if (InsertDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((InsertDelta<?>) object);
+    if (ChangeDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((ChangeDelta<?>) object);
+    if (DeleteDelta.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((DeleteDelta<?>) object);
     // Only format Iterables that are not collections and have not overridden toString
     // ex: JsonNode is an Iterable that is best formatted with its own String
     // Path is another example, but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> iterable && !hasOverriddenToString(object.getClass())) return smartFormat(iterable);
-    if (object instanceof AtomicInteger atomicInteger) return toStringOf(atomicInteger);
-    if (object instanceof AtomicBoolean atomicBoolean) return toStringOf(atomicBoolean);
-    if (object instanceof AtomicLong atomicLong) return toStringOf(atomicLong);
-    if (object instanceof Number number) return toStringOf(number);
-    if (object instanceof Throwable throwable) return toStringOf(throwable);
-    return fallbackToStringOf(object);
-  }
-
-  private static boolean isUnquotedString(Object object) {
-    String className = object.getClass().getName();
+    if (Iterable.class.isAssignableFrom(type) && !hasOverriddenToString(type))
+      return (representation, object) -> representation.smartFormat((Iterable<?>) object);
+    if (AtomicInteger.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicInteger) object);
+    if (AtomicBoolean.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((AtomicBoolean) object);
+    if (AtomicLong.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((AtomicLong) object);
+    if (Number.class.isAssignableFrom(type)) return (representation, object) -> representation.toStringOf((Number) object);
+    if (Throwable.class.isAssignableFrom(type))
+      return (representation, object) -> representation.toStringOf((Throwable) object);
+    return StandardRepresentation::fallbackToStringOf;
+  }
+
+  private static boolean isUnquotedString(Class<?> type) {
+    String className = type.getName();
     return className.contains("org.assertj.core") && className.contains("UnquotedString");
   }
 
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+  private static boolean isSubtypeNotOverridingToString(Class<?> type, Class<?> supertype) {
+    return supertype.isAssignableFrom(type) && !hasOverriddenToStringInSubclassOf(type, supertype);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -506,17 +564,13 @@ public class StandardRepresentation implements Representation {
 
   protected String toStringOf(Map<?, ?> map) {
     if (map == null) return null;
-    Map<?, ?> sortedMap = toSortedMapIfPossible(map);
-    Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
+    EntriesToPrint entriesToPrint = entriesToPrintOf(map);
+    Iterator<?> entriesIterator = entriesToPrint.entries.entrySet().iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
     int printedElements = 0;
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
-        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return builder.append("}").toString();
-      }
 
       // the entry shouldn't be null in a valid map, but if it is, print it out gracefully instead of throwing a NPE
       if (entry == null) {
@@ -526,8 +580,11 @@ public class StandardRepresentation implements Representation {
       }
 
       printedElements++;
-      if (!entriesIterator.hasNext()) return builder.append("}").toString();
+      // the entries to print may not be all the map entries
+      boolean hasMoreEntries = entriesIterator.hasNext() || entriesToPrint.truncated;
+      if (!hasMoreEntries) return builder.append("}").toString();
       builder.append(", ");
+      if (printedElements == maxElementsForPrinting) return builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append("}").toString();
     }
   }
 
@@ -636,25 +693,19 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    return format(java.util.Arrays.asList(array), start, end, elementSeparator, indentation, root);
+    return format(asList(array), start, end, elementSeparator, indentation, root);
   }
 
   protected String format(List<?> elements, String start, String end, String elementSeparator, String indentation,
                           Object root) {
     if (elements == null) return null;
-    if (elements.isEmpty()) return start + end;
-    List<String> representedElements = new TransformingList<>(elements, elem -> safeStringOf(elem, start, end, elementSeparator,
-                                                                                             indentation, root));
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return representElements(elements, start, end, elementSeparator, indentation, root);
   }
 
   protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
                           Object root) {
     if (iterable == null) return null;
-    Iterator<?> iterator = iterable.iterator();
-    if (!iterator.hasNext()) return start + end;
-    List<String> representedElements = representElements(iterable, start, end, elementSeparator, indentation, root);
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return representElements(elementsToDisplay(iterable), start, end, elementSeparator, indentation, root);
   }
 
   protected String safeStringOf(Object element, String start, String end, String elementSeparator, String indentation,
@@ -672,17 +723,26 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
-  private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
-                                         String indentation, Object root) {
+  // returns the elements of random access lists as they can be read by index, otherwise only the first and last elements that
+  // can be displayed are kept to avoid storing all the elements
+  private static List<?> elementsToDisplay(Iterable<?> iterable) {
+    if (iterable instanceof List<?> list && list instanceof RandomAccess) return list;
     int capacity = maxElementsForPrinting / 2 + 1;
     HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
-    elements.forEach(accumulator::add);
+    iterable.forEach(accumulator::add);
+    return accumulator.stream().collect(toList());
+  }
 
-    return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                      .collect(toList());
+  // the elements are represented when appended to the representation so that only the displayed ones are
+  private String representElements(List<?> elements, String start, String end, String elementSeparator, String indentation,
+                                   Object root) {
+    if (elements.isEmpty()) return start + end;
+    List<String> representedElements = new TransformingList<>(elements, elem -> safeStringOf(elem, start, end, elementSeparator,
+                                                                                             indentation, root));
+    return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
+  // this method only deals with max number of elements to display, the elements are represented when read
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
                                        String indentation) {
     int size = representedElements.size();
@@ -767,11 +827,34 @@ public class StandardRepresentation implements Representation {
     return o.toString() + classNameDisambiguation(o);
   }
 
-  private static Map<?, ?> toSortedMapIfPossible(Map<?, ?> map) {
+  // only the entries with the smallest keys are printed, keeping only them avoids sorting all the entries of large maps
+  private static EntriesToPrint entriesToPrintOf(Map<?, ?> map) {
+    if (map instanceof SortedMap) return new EntriesToPrint(map, false);
     try {
-      return new TreeMap<>(map);
+      TreeMap<Object, Object> sortedMap = new TreeMap<>();
+      boolean truncated = false;
+      for (Entry<?, ?> entry : map.entrySet()) {
+        sortedMap.put(entry.getKey(), entry.getValue());
+        if (sortedMap.size() > maxElementsForPrinting) {
+          sortedMap.pollLastEntry();
+          truncated = true;
+        }
+      }
+      // keys comparing equal but not equal are merged, the map size can't tell whether entries were dropped
+      return new EntriesToPrint(sortedMap, truncated);
     } catch (ClassCastException | NullPointerException e) {
-      return map;
+      return new EntriesToPrint(map, false);
+    }
+  }
+
+  private static final class EntriesToPrint {
+    private final Map<?, ?> entries;
+    // whether some entries of the map are not in the entries to print
+    private final boolean truncated;
+
+    private EntriesToPrint(Map<?, ?> entries, boolean truncated) {
+      this.entries = entries;
+      this.truncated = truncated;
     }
   }
 
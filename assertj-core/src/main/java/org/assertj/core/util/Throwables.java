@@ -31,6 +31,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ThrowableAssert;
+import org.assertj.core.error.DeferredMessageAssertionError;
 import org.assertj.core.util.introspection.IntrospectionError;
 
 /**
@@ -247,6 +248,11 @@ public final class Throwables {
   private static <T extends Throwable> T addLineNumberToErrorMessage(T error) {
     StackTraceElement testStackTraceElement = Throwables.getFirstStackTraceElementFromTest(error.getStackTrace());
     if (testStackTraceElement != null) {
+      if (error instanceof DeferredMessageAssertionError deferredMessageError) {
+        @SuppressWarnings("unchecked")
+        T errorWithLineNumber = (T) addLineNumberToDeferredErrorMessage(deferredMessageError, testStackTraceElement);
+        return errorWithLineNumber;
+      }
       try {
         return createNewInstanceWithLineNumberInErrorMessage(error, testStackTraceElement);
       } catch (@SuppressWarnings("unused") SecurityException | ReflectiveOperationException ignored) {}
@@ -254,6 +260,12 @@ public final class Throwables {
     return error;
   }
 
+  private static DeferredMessageAssertionError addLineNumberToDeferredErrorMessage(DeferredMessageAssertionError error,
+                                                                                  StackTraceElement testStackTraceElement) {
+    // keep deferring the message creation until it is requested
+    return error.withDecoratedMessage(message -> buildErrorMessageWithLineNumber(message, testStackTraceElement));
+  }
+
   private static <T extends Throwable> T createNewInstanceWithLineNumberInErrorMessage(T error,
                                                                                        StackTraceElement testStackTraceElement) throws ReflectiveOperationException {
     T errorWithLineNumber = isOpentest4jAssertionFailedError(error)
@@ -0,0 +1,242 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the Myers differencing algorithm.
+ * <p>
+ * Instead of keeping the furthest reaching path of every diagonal, the sequences are recursively split at the middle snake
+ * of an optimal path (see section 4b of the <a href="http://www.xmailserver.org/diff2.pdf">paper</a>), the algorithm runs in
+ * O((N+M)D) time and O(N+M) space where N and M are the sizes of the sequences and D the number of differences.
+ * <p>
+ * A maximum edit distance can be given to bound the time spent on sequences that have little in common, when it is exceeded
+ * the patch contains a single {@link ChangeDelta} going from the first to the last difference.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private static final int NO_MAX_EDIT_DISTANCE = -1;
+  private static final int NOT_REACHED = -1;
+
+  private final Equalizer<T> equalizer;
+  private final int maxEditDistance;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm computing all the differences.
+   */
+  public LinearSpaceMyersDiff() {
+    this(NO_MAX_EDIT_DISTANCE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm that stops looking for the differences when there
+   * are more than the given number of inserted and deleted elements.
+   *
+   * @param maxEditDistance the maximum number of inserted and deleted elements, must be positive.
+   */
+  public LinearSpaceMyersDiff(int maxEditDistance) {
+    checkArgument(maxEditDistance > 0 || maxEditDistance == NO_MAX_EDIT_DISTANCE, "maxEditDistance must be positive");
+    this.equalizer = Object::equals;
+    this.maxEditDistance = maxEditDistance;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new Differences(original, revised).toPatch();
+  }
+
+  /**
+   * Differences between two sequences, computed by marking the elements deleted from the original sequence and the ones
+   * inserted in the revised sequence, the unmarked elements form a longest common subsequence.
+   */
+  private class Differences {
+
+    private final List<T> original;
+    private final List<T> revised;
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    // furthest reaching x per diagonal for the forward and the backward searches, shared by all the middle snake searches
+    private final int[] forward;
+    private final int[] backward;
+    private boolean tooManyDifferences;
+
+    Differences(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      this.deleted = new boolean[original.size()];
+      this.inserted = new boolean[revised.size()];
+      int diagonals = 2 * ((original.size() + revised.size() + 1) / 2) + 2;
+      this.forward = new int[diagonals];
+      this.backward = new int[diagonals];
+      compare(0, original.size(), 0, revised.size(), maxEditDistance);
+    }
+
+    private void compare(int originalStart, int originalEnd, int revisedStart, int revisedEnd, int maxDifferences) {
+      while (originalStart < originalEnd && revisedStart < revisedEnd && equal(originalStart, revisedStart)) {
+        originalStart++;
+        revisedStart++;
+      }
+      while (originalStart < originalEnd && revisedStart < revisedEnd && equal(originalEnd - 1, revisedEnd - 1)) {
+        originalEnd--;
+        revisedEnd--;
+      }
+      if (originalStart == originalEnd) {
+        for (int j = revisedStart; j < revisedEnd; j++) inserted[j] = true;
+      } else if (revisedStart == revisedEnd) {
+        for (int i = originalStart; i < originalEnd; i++) deleted[i] = true;
+      } else {
+        int[] split = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd, maxDifferences);
+        if (split == null) {
+          // too many differences, report everything from the first to the last difference as changed
+          tooManyDifferences = true;
+          for (int i = originalStart; i < originalEnd; i++) deleted[i] = true;
+          for (int j = revisedStart; j < revisedEnd; j++) inserted[j] = true;
+          return;
+        }
+        // the differences on each side of the split are less than the ones already accepted
+        compare(originalStart, split[0], revisedStart, split[1], NO_MAX_EDIT_DISTANCE);
+        compare(split[0], originalEnd, split[1], revisedEnd, NO_MAX_EDIT_DISTANCE);
+      }
+    }
+
+    /**
+     * Finds a point of an optimal path that splits its differences in two halves, returns null if the path has more than the
+     * given maximum differences.
+     */
+    private int[] middleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd, int maxDifferences) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      int maxD = (n + m + 1) / 2;
+      // diagonal k contains the points (x, y) such as x - y = k, forward[offset + k] is the furthest x reached on it from the
+      // start, backward[offset + k] the furthest x reached from the end in reversed coordinates, -1 if not reached yet
+      int offset = maxD;
+      Arrays.fill(forward, 0, 2 * maxD + 2, NOT_REACHED);
+      Arrays.fill(backward, 0, 2 * maxD + 2, NOT_REACHED);
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      int delta = n - m;
+      // with an odd delta, forward and backward paths can only overlap when extending a forward path
+      boolean oddDelta = (delta & 1) != 0;
+      // number of diagonals on each side that went past the edit graph and can be skipped
+      int forwardStartSkip = 0;
+      int forwardEndSkip = 0;
+      int backwardStartSkip = 0;
+      int backwardEndSkip = 0;
+      for (int d = 0; d <= maxD; d++) {
+        // no path was found with 2(d-1) differences, the optimal path has at least 2d-1 of them
+        if (maxDifferences != NO_MAX_EDIT_DISTANCE && 2 * d - 1 > maxDifferences) return null;
+        for (int k = -d + forwardStartSkip; k <= d - forwardEndSkip; k += 2) {
+          int x = k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1])
+              ? forward[offset + k + 1]
+              : forward[offset + k - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && equal(originalStart + x, revisedStart + y)) {
+            x++;
+            y++;
+          }
+          forward[offset + k] = x;
+          if (x > n) {
+            forwardEndSkip += 2;
+          } else if (y > m) {
+            forwardStartSkip += 2;
+          } else if (oddDelta) {
+            int backwardIndex = offset + delta - k;
+            if (backwardIndex >= 0 && backwardIndex < 2 * maxD + 2 && backward[backwardIndex] != NOT_REACHED
+                && x >= n - backward[backwardIndex]) {
+              return new int[] { originalStart + x, revisedStart + y };
+            }
+          }
+        }
+        for (int k = -d + backwardStartSkip; k <= d - backwardEndSkip; k += 2) {
+          int x = k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1])
+              ? backward[offset + k + 1]
+              : backward[offset + k - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && equal(originalEnd - 1 - x, revisedEnd - 1 - y)) {
+            x++;
+            y++;
+          }
+          backward[offset + k] = x;
+          if (x > n) {
+            backwardEndSkip += 2;
+          } else if (y > m) {
+            backwardStartSkip += 2;
+          } else if (!oddDelta) {
+            int forwardIndex = offset + delta - k;
+            if (forwardIndex >= 0 && forwardIndex < 2 * maxD + 2 && forward[forwardIndex] != NOT_REACHED
+                && forward[forwardIndex] >= n - x) {
+              // the path has 2d differences
+              if (maxDifferences != NO_MAX_EDIT_DISTANCE && 2 * d > maxDifferences) return null;
+              int forwardX = forward[forwardIndex];
+              return new int[] { originalStart + forwardX, revisedStart + forwardX - (delta - k) };
+            }
+          }
+        }
+      }
+      // According to Myers, this cannot happen
+      throw new IllegalStateException("could not find a diff path");
+    }
+
+    private boolean equal(int originalIndex, int revisedIndex) {
+      return equalizer.equals(original.get(originalIndex), revised.get(revisedIndex));
+    }
+
+    Patch<T> toPatch() {
+      Patch<T> patch = new Patch<>();
+      int i = 0;
+      int j = 0;
+      while (i < deleted.length || j < inserted.length) {
+        if (i < deleted.length && j < inserted.length && !deleted[i] && !inserted[j]) {
+          i++;
+          j++;
+          continue;
+        }
+        int originalStart = i;
+        int revisedStart = j;
+        while (i < deleted.length && deleted[i]) i++;
+        while (j < inserted.length && inserted[j]) j++;
+        patch.addDelta(delta(new Chunk<>(originalStart, copyOfRange(original, originalStart, i)),
+                             new Chunk<>(revisedStart, copyOfRange(revised, revisedStart, j))));
+      }
+      return patch;
+    }
+
+    private Delta<T> delta(Chunk<T> originalChunk, Chunk<T> revisedChunk) {
+      if (tooManyDifferences) return new ChangeDelta<>(originalChunk, revisedChunk);
+      if (originalChunk.size() == 0) return new InsertDelta<>(originalChunk, revisedChunk);
+      if (revisedChunk.size() == 0) return new DeleteDelta<>(originalChunk, revisedChunk);
+      return new ChangeDelta<>(originalChunk, revisedChunk);
+    }
+
+    private List<T> copyOfRange(List<T> list, int fromIndex, int toIndex) {
+      return new ArrayList<>(list.subList(fromIndex, toIndex));
+    }
+  }
+}
@@ -252,4 +252,19 @@ public enum FieldSupport {
     return isPublic(field.getModifiers());
   }
 
+  /**
+   * Returns the field with the given name that this {@code FieldSupport} can read in instances of the given type, null if
+   * there is none.
+   * <p>
+   * Unlike {@link #fieldValue(String, Class, Object)} no exception is raised and nested fields are not supported.
+   *
+   * @param fieldName the name of the field.
+   * @param type the type of the instances to read the field from.
+   * @return the readable field or null.
+   */
+  Field readableField(String fieldName, Class<?> type) {
+    Field field = FieldUtils.findInstanceField(type, fieldName);
+    return field != null && isAllowedToRead(field) ? field : null;
+  }
+
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -33,6 +34,14 @@ class FieldUtils {
 
   // use ConcurrentHashMap as FieldUtils can be used in a multi-thread context
   private static final Map<Class<?>, Map<String, Field>> fieldsPerClass = new ConcurrentHashMap<>();
+  // instance fields by name per class, a ClassValue does not prevent the classes from being unloaded.
+  // Optional allows caching the absence of readable fields as ConcurrentHashMap does not permit nulls
+  private static final ClassValue<Map<String, Optional<Field>>> INSTANCE_FIELDS_PER_CLASS = new ClassValue<>() {
+    @Override
+    protected Map<String, Optional<Field>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
 
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
@@ -96,6 +105,41 @@ class FieldUtils {
     return match;
   }
 
+  /**
+   * Gets the instance <code>Field</code> read by {@link #readField(Object, String, boolean)} breaking scope if needed, without
+   * raising any exception.
+   * <p>
+   * The result is cached, whether the field is allowed to be read is left to the caller.
+   *
+   * @param cls the class to reflect, must not be null
+   * @param fieldName the field name to obtain
+   * @return the accessible Field object or null if there is no accessible non static and non synthetic field with this name.
+   */
+  static Field findInstanceField(Class<?> cls, String fieldName) {
+    return INSTANCE_FIELDS_PER_CLASS.get(cls)
+                                    .computeIfAbsent(fieldName, unused -> lookUpInstanceField(cls, fieldName))
+                                    .orElse(null);
+  }
+
+  private static Optional<Field> lookUpInstanceField(Class<?> cls, String fieldName) {
+    for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
+      try {
+        Field field = getDeclaredField(fieldName, acls);
+        // like readField, don't look further than the first field found in the hierarchy
+        if (isStatic(field.getModifiers()) || field.isSynthetic()) return Optional.empty();
+        if (Modifier.isPublic(field.getModifiers())) MemberUtils.setAccessibleWorkaround(field);
+        else field.setAccessible(true);
+        return Optional.of(field);
+      } catch (NoSuchFieldException ex) { // NOPMD
+        // ignore
+      } catch (RuntimeException ex) { // NOPMD
+        // the field can't be made accessible
+        return Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
   /**
    * Returns the {@link Field} corresponding to the given fieldName for the specified class.
    * <p>
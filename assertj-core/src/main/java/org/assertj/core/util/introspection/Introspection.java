@@ -18,6 +18,8 @@ import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -39,6 +41,10 @@ public final class Introspection {
   // We want to cache negative results (i.e. absence of methods) to avoid same overhead on subsequent lookups
   // However ConcurrentHashMap does not permit nulls - Optional allows caching of 'missing' values
   private static final Map<MethodKey, Optional<Method>> METHOD_CACHE = new ConcurrentHashMap<>();
+  // getters by property name per class, a ClassValue does not prevent the classes from being unloaded.
+  // resolved getters depend on whether bare name property methods are allowed, hence one cache per setting
+  private static final ClassValue<Map<String, PropertyGetter>> GETTERS_PER_CLASS = new GettersPerClass();
+  private static final ClassValue<Map<String, PropertyGetter>> BARE_NAME_GETTERS_PER_CLASS = new GettersPerClass();
 
   // set false by default to follow the principle of least surprise as usual property getter are getX() isX(), not x().
   private static boolean bareNamePropertyMethods = false;
@@ -55,28 +61,93 @@ public final class Introspection {
    * @throws IntrospectionError       if the getter for the matching property cannot be found or accessed.
    */
   public static Method getPropertyGetter(String propertyName, Object target) {
+    Method getter = findPropertyGetter(propertyName, target).method();
+    try {
+      getter.invoke(target);
+    } catch (InvocationTargetException ex) {
+      throw PropertyGetter.getterInvocationError(getter, target, ex);
+    } catch (Exception t) {
+      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
+    }
+    return getter;
+  }
+
+  /**
+   * Returns the getter for a property matching the given name in the given object, the getter is not invoked.
+   * <p>
+   * Getters are resolved once per class and property name, including the ones that can't be found or accessed.
+   *
+   * @param propertyName the given property name.
+   * @param target       the given object.
+   * @return the getter for a property matching the given name in the given object.
+   * @throws NullPointerException     if the given property name is {@code null}.
+   * @throws IllegalArgumentException if the given property name is empty.
+   * @throws NullPointerException     if the given object is {@code null}.
+   */
+  static PropertyGetter findPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
+    return findPropertyGetter(propertyName, target.getClass());
+  }
+
+  private static PropertyGetter findPropertyGetter(String propertyName, Class<?> clazz) {
+    boolean bareNamePropertyMethods = Introspection.bareNamePropertyMethods;
+    Map<String, PropertyGetter> getters = (bareNamePropertyMethods ? BARE_NAME_GETTERS_PER_CLASS : GETTERS_PER_CLASS).get(clazz);
+    return getters.computeIfAbsent(propertyName, name -> resolvePropertyGetter(name, clazz, bareNamePropertyMethods));
+  }
+
+  /**
+   * Returns the method handle of the getter for a property matching the given name in the given class, or empty if the getter
+   * cannot be found or accessed.
+   * <p>
+   * The getter is resolved like {@link #getPropertyGetter(String, Object)} does and kept, the returned handle takes an
+   * {@code Object} and returns an {@code Object}.
+   *
+   * @param propertyName the given property name.
+   * @param clazz        the class declaring or inheriting the getter.
+   * @return the method handle of the getter for a property matching the given name in the given class.
+   * @throws NullPointerException     if the given property name is {@code null}.
+   * @throws IllegalArgumentException if the given property name is empty.
+   * @throws NullPointerException     if the given class is {@code null}.
+   */
+  public static Optional<MethodHandle> findPropertyGetterHandle(String propertyName, Class<?> clazz) {
+    checkNotNullOrEmpty(propertyName);
+    requireNonNull(clazz);
+    PropertyGetter getter = findPropertyGetter(propertyName, clazz);
+    return getter.isResolved() ? Optional.of(getter.handle()) : Optional.empty();
+  }
+
+  /**
+   * Returns the error reporting that the getter for a property matching the given name has thrown an exception when invoked on
+   * the given object.
+   *
+   * @param propertyName the given property name.
+   * @param target       the object the getter was invoked on.
+   * @param exception    the exception wrapping the one thrown by the getter.
+   * @return the error reporting that the getter has thrown an exception.
+   * @throws IntrospectionError if the getter for the matching property cannot be found or accessed.
+   */
+  public static IntrospectionError propertyGetterInvocationError(String propertyName, Object target,
+                                                                 InvocationTargetException exception) {
+    return PropertyGetter.getterInvocationError(findPropertyGetter(propertyName, target).method(), target, exception);
+  }
+
+  private static PropertyGetter resolvePropertyGetter(String propertyName, Class<?> clazz, boolean bareNamePropertyMethods) {
+    Method getter = findGetter(propertyName, clazz, bareNamePropertyMethods);
     if (getter == null) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
+      return PropertyGetter.unresolved(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, clazz));
     }
     if (!isPublic(getter.getModifiers())) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName, target));
+      return PropertyGetter.unresolved(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName,
+                                                                    clazz));
     }
     try {
       // force access for static class with public getter
       getter.setAccessible(true);
-      getter.invoke(target);
-    } catch (InvocationTargetException ex) {
-      String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getter.getName(),
-                                                                                   target.getClass().getSimpleName(),
-                                                                                   ex.getTargetException());
-      throw new IntrospectionError(message, ex, ex.getTargetException());
+      return PropertyGetter.resolved(getter, MethodHandles.lookup().unreflect(getter));
     } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
+      return PropertyGetter.unresolved(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, clazz), t);
     }
-    return getter;
   }
 
   public static void setExtractBareNamePropertyMethods(boolean bareNamePropertyMethods) {
@@ -90,23 +161,26 @@ public final class Introspection {
   }
 
   private static String propertyNotFoundErrorMessage(String message, String propertyName, Object target) {
-    String targetTypeName = target.getClass().getName();
+    return propertyNotFoundErrorMessage(message, propertyName, target.getClass());
+  }
+
+  private static String propertyNotFoundErrorMessage(String message, String propertyName, Class<?> targetType) {
     String property = quote(propertyName);
-    return message.formatted(property, targetTypeName);
+    return message.formatted(property, targetType.getName());
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  private static Method findGetter(String propertyName, Class<?> clazz, boolean bareNamePropertyMethods) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, clazz);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods || target instanceof Record) {
+    if (bareNamePropertyMethods || Record.class.isAssignableFrom(clazz)) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, clazz);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, clazz);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -114,8 +188,8 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> clazz) {
+    final MethodKey methodKey = new MethodKey(name, clazz);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
@@ -158,6 +232,13 @@ public final class Introspection {
     }
   }
 
+  private static final class GettersPerClass extends ClassValue<Map<String, PropertyGetter>> {
+    @Override
+    protected Map<String, PropertyGetter> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  }
+
   private Introspection() {}
 
 }
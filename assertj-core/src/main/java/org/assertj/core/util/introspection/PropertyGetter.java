@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * The getter of a property of a class as resolved by {@link Introspection}, or the reason why it could not be resolved.
+ * <p>
+ * Resolved getters are invoked with a method handle, unresolved ones fail with the error describing why the getter could not
+ * be resolved.
+ */
+final class PropertyGetter {
+
+  private final Method method;
+  private final MethodHandle handle;
+  private final String errorMessage;
+  private final Throwable errorCause;
+
+  private PropertyGetter(Method method, MethodHandle handle, String errorMessage, Throwable errorCause) {
+    this.method = method;
+    this.handle = handle;
+    this.errorMessage = errorMessage;
+    this.errorCause = errorCause;
+  }
+
+  static PropertyGetter resolved(Method method, MethodHandle handle) {
+    return new PropertyGetter(method, handle.asType(methodType(Object.class, Object.class)), null, null);
+  }
+
+  static PropertyGetter unresolved(String errorMessage) {
+    return unresolved(errorMessage, null);
+  }
+
+  static PropertyGetter unresolved(String errorMessage, Throwable errorCause) {
+    return new PropertyGetter(null, null, errorMessage, errorCause);
+  }
+
+  boolean isResolved() {
+    return method != null;
+  }
+
+  /**
+   * Returns the getter method.
+   *
+   * @throws IntrospectionError if the getter could not be resolved.
+   */
+  Method method() {
+    if (!isResolved()) throw resolutionError();
+    return method;
+  }
+
+  /**
+   * Returns the method handle of the getter, adapted to take an {@code Object} and return an {@code Object}.
+   *
+   * @throws IntrospectionError if the getter could not be resolved.
+   */
+  MethodHandle handle() {
+    if (!isResolved()) throw resolutionError();
+    return handle;
+  }
+
+  /**
+   * Invokes the getter on the given target.
+   *
+   * @throws IntrospectionError if the getter could not be resolved or if it has thrown an exception.
+   */
+  Object invoke(Object target) {
+    if (!isResolved()) throw resolutionError();
+    try {
+      return (Object) handle.invokeExact(target);
+    } catch (Throwable t) {
+      throw getterInvocationError(method, target, new InvocationTargetException(t));
+    }
+  }
+
+  static IntrospectionError getterInvocationError(Method getter, Object target, InvocationTargetException ex) {
+    String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getter.getName(),
+                                                                                 target.getClass().getSimpleName(),
+                                                                                 ex.getTargetException());
+    return new IntrospectionError(message, ex, ex.getTargetException());
+  }
+
+  private IntrospectionError resolutionError() {
+    return new IntrospectionError(errorMessage, errorCause);
+  }
+
+}
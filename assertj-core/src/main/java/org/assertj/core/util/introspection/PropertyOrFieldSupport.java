@@ -14,7 +14,9 @@ package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.Introspection.findPropertyGetter;
 
+import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.Optional;
 
@@ -64,35 +66,61 @@ public class PropertyOrFieldSupport {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional optional && name.equals("value")) return optional.orElse(null);
 
+    // getters and fields are resolved once per class, errors are only built when no value can be read
+    if (input != null && name != null && !name.isEmpty() && !isNested(name)) {
+      PropertyGetter getter = findPropertyGetter(name, input);
+      if (getter.isResolved()) {
+        try {
+          return getter.invoke(input);
+        } catch (IntrospectionError getterInvocationError) {
+          return getFieldOrMapValue(name, input, getterInvocationError);
+        }
+      }
+      Field field = fieldSupport.readableField(name, input.getClass());
+      if (field != null) {
+        try {
+          return field.get(input);
+        } catch (@SuppressWarnings("unused") IllegalAccessException e) {
+          // let the usual path report the error
+        }
+      } else if (input instanceof Map<?, ?> map && map.containsKey(name)) {
+        return map.get(name);
+      }
+    }
+
     try {
       // try to get name as a property
       return propertySupport.propertyValueOf(name, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
-      // try to get name as a field
-      try {
-        return fieldSupport.fieldValue(name, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // if input is a map, try to use the name value as a map key
-        if (input instanceof Map<?, ?> map) {
-          if (map.containsKey(name)) return map.get(name);
-        }
+      return getFieldOrMapValue(name, input, propertyIntrospectionError);
+    }
+  }
 
-        // if the getter invocation throws exception and there's no field present,
-        // we'll propagate the IntrospectionError containing the original exception
-        if (propertyIntrospectionError.getterInvocationException().isPresent()) {
-          throw propertyIntrospectionError;
-        }
+  private Object getFieldOrMapValue(String name, Object input, IntrospectionError propertyIntrospectionError) {
+    // try to get name as a field
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // if input is a map, try to use the name value as a map key
+      if (input instanceof Map<?, ?> map) {
+        if (map.containsKey(name)) return map.get(name);
+      }
 
-        // no value found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                name, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
+      // if the getter invocation throws exception and there's no field present,
+      // we'll propagate the IntrospectionError containing the original exception
+      if (propertyIntrospectionError.getterInvocationException().isPresent()) {
+        throw propertyIntrospectionError;
       }
+
+      // no value found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              name, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
     }
   }
 
@@ -18,11 +18,14 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Streams.stream;
+import static org.assertj.core.util.introspection.Introspection.findPropertyGetter;
 import static org.assertj.core.util.introspection.Introspection.getPropertyGetter;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility methods for properties access.
@@ -35,9 +38,14 @@ import java.util.List;
 public class PropertySupport {
 
   private static final String SEPARATOR = ".";
+  // property paths are usually written in the tests code, the cap avoids keeping generated ones forever
+  private static final int MAX_CACHED_PROPERTY_PATHS = 10_000;
 
   private static final PropertySupport INSTANCE = new PropertySupport();
 
+  // use ConcurrentHashMap as PropertySupport can be used in a multi-thread context
+  private final Map<String, List<String>> propertyNamesByPath = new ConcurrentHashMap<>();
+
   /**
    * Returns the singleton instance of this class.
    *
@@ -143,9 +151,12 @@ public class PropertySupport {
    */
   @SuppressWarnings("unchecked")
   public <T> T propertyValue(String propertyName, Class<T> clazz, Object target) {
-    Method getter = getPropertyGetter(propertyName, target);
+    PropertyGetter getter = findPropertyGetter(propertyName, target);
     try {
+      // the getter is invoked once, an exception thrown by it is reported as an IntrospectionError
       return (T) getter.invoke(target);
+    } catch (IntrospectionError e) {
+      throw e;
     } catch (ClassCastException e) {
       String msg = "Unable to obtain the value of the property <'%s'> from <%s> - wrong property type specified <%s>".formatted(propertyName,
                                                                                                                                 target,
@@ -178,14 +189,33 @@ public class PropertySupport {
     if (target == null) return null;
 
     if (isNestedProperty(propertyName)) {
-      String firstPropertyName = popPropertyNameFrom(propertyName);
-      Object propertyValue = propertyValue(firstPropertyName, Object.class, target);
-      // extract next sub-property values until reaching the last sub-property
-      return propertyValueOf(nextPropertyNameFrom(propertyName), clazz, propertyValue);
+      List<String> propertyNames = propertyNamesOf(propertyName);
+      Object propertyValue = target;
+      // extract sub-property values until reaching the last sub-property
+      for (String name : propertyNames.subList(0, propertyNames.size() - 1)) {
+        propertyValue = propertyValue(name, Object.class, propertyValue);
+        if (propertyValue == null) return null;
+      }
+      return propertyValue(propertyNames.get(propertyNames.size() - 1), clazz, propertyValue);
     }
     return propertyValue(propertyName, clazz, target);
   }
 
+  private List<String> propertyNamesOf(String propertyPath) {
+    List<String> propertyNames = propertyNamesByPath.get(propertyPath);
+    if (propertyNames != null) return propertyNames;
+    propertyNames = new ArrayList<>();
+    String remainingPath = propertyPath;
+    while (isNestedProperty(remainingPath)) {
+      propertyNames.add(popPropertyNameFrom(remainingPath));
+      remainingPath = nextPropertyNameFrom(remainingPath);
+    }
+    propertyNames.add(remainingPath);
+    propertyNames = List.copyOf(propertyNames);
+    if (propertyNamesByPath.size() < MAX_CACHED_PROPERTY_PATHS) propertyNamesByPath.put(propertyPath, propertyNames);
+    return propertyNames;
+  }
+
   /**
    * Returns a <code>{@link List}</code> containing the values of the given property name, from the elements of the
    * given <code>{@link Iterable}</code>. If the given {@code Iterable} is empty or {@code null}, this method will
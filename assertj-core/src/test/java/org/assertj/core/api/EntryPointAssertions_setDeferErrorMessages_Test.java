@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("EntryPoint assertions setDeferErrorMessages method")
+class EntryPointAssertions_setDeferErrorMessages_Test extends EntryPointAssertionsBaseTest {
+
+  private static final Failures FAILURES = Failures.instance();
+  private static final boolean DEFAULT_DEFER_ERROR_MESSAGES = FAILURES.isDeferErrorMessages();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    FAILURES.setDeferErrorMessages(DEFAULT_DEFER_ERROR_MESSAGES);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setDeferErrorMessagesFunctions")
+  void should_set_deferErrorMessages_value(Consumer<Boolean> setDeferErrorMessagesFunction) {
+    // GIVEN
+    boolean deferErrorMessages = !DEFAULT_DEFER_ERROR_MESSAGES;
+    // WHEN
+    setDeferErrorMessagesFunction.accept(deferErrorMessages);
+    // THEN
+    then(FAILURES.isDeferErrorMessages()).isEqualTo(deferErrorMessages);
+  }
+
+  private static Stream<Consumer<Boolean>> setDeferErrorMessagesFunctions() {
+    return Stream.of(Assertions::setDeferErrorMessages,
+                     BDDAssertions::setDeferErrorMessages,
+                     withAssertions::setDeferErrorMessages);
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("EntryPoint assertions setMaxFailuresDisplayed method")
+class EntryPointAssertions_setMaxFailuresDisplayed_Test extends EntryPointAssertionsBaseTest {
+
+  private static final int DEFAULT_MAX_FAILURES_DISPLAYED = StandardRepresentation.getMaxFailuresDisplayed();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    StandardRepresentation.setMaxFailuresDisplayed(DEFAULT_MAX_FAILURES_DISPLAYED);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setMaxFailuresDisplayedFunctions")
+  void should_set_maxFailuresDisplayed_value(Consumer<Integer> setMaxFailuresDisplayedFunction) {
+    // WHEN
+    setMaxFailuresDisplayedFunction.accept(5);
+    // THEN
+    then(StandardRepresentation.getMaxFailuresDisplayed()).isEqualTo(5);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setMaxFailuresDisplayedFunctions")
+  void should_fail_if_maxFailuresDisplayed_is_less_than_one(Consumer<Integer> setMaxFailuresDisplayedFunction) {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> setMaxFailuresDisplayedFunction.accept(0));
+    // THEN
+    then(exception).hasMessage("maxFailuresDisplayed must be >= 1, but was 0");
+    then(StandardRepresentation.getMaxFailuresDisplayed()).isEqualTo(DEFAULT_MAX_FAILURES_DISPLAYED);
+  }
+
+  private static Stream<Consumer<Integer>> setMaxFailuresDisplayedFunctions() {
+    return Stream.of(Assertions::setMaxFailuresDisplayed,
+                     BDDAssertions::setMaxFailuresDisplayed,
+                     withAssertions::setMaxFailuresDisplayed);
+  }
+
+}
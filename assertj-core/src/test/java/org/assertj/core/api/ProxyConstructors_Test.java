@@ -0,0 +1,75 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Arrays.array;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ProxyConstructors_Test {
+
+  private final AtomicInteger proxyClassLookups = new AtomicInteger();
+  // use the assert classes as their own proxy classes
+  private final ProxyConstructors proxyConstructors = new ProxyConstructors(assertClass -> {
+    proxyClassLookups.incrementAndGet();
+    return assertClass;
+  });
+
+  @Test
+  void should_create_proxies_with_the_constructor_taking_the_given_parameter_types() {
+    // WHEN
+    StringAssert proxy = proxyConstructors.newProxy(StringAssert.class, array(String.class), "foo");
+    // THEN
+    then(proxy.actual).isEqualTo("foo");
+  }
+
+  @Test
+  void should_look_up_the_proxy_class_once_per_assert_class_and_parameter_types() {
+    // WHEN
+    proxyConstructors.newProxy(StringAssert.class, array(String.class), "foo");
+    proxyConstructors.newProxy(StringAssert.class, array(String.class), "bar");
+    proxyConstructors.newProxy(IntegerAssert.class, array(Integer.class), 1);
+    // THEN
+    then(proxyClassLookups).hasValue(2);
+  }
+
+  @Test
+  void should_fail_if_the_proxy_class_has_no_constructor_taking_the_given_parameter_types() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> proxyConstructors.newProxy(StringAssert.class, array(Integer.class), 1));
+    // THEN
+    then(throwable).isInstanceOf(RuntimeException.class)
+                   .hasCauseInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  void should_fail_if_the_constructor_fails() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> proxyConstructors.newProxy(FailingAssert.class, array(Object.class), "foo"));
+    // THEN
+    then(throwable).isInstanceOf(RuntimeException.class)
+                   .cause().hasMessage("boom");
+  }
+
+  public static class FailingAssert extends ObjectAssert<Object> {
+    public FailingAssert(Object actual) {
+      super(actual);
+      throw new IllegalStateException("boom");
+    }
+  }
+
+}
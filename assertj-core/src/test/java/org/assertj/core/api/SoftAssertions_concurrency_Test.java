@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Soft assertions used concurrently")
+class SoftAssertions_concurrency_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void setup() {
+    softly = new SoftAssertions();
+  }
+
+  @Test
+  void should_collect_errors_of_soft_assertions_failing_in_different_threads() {
+    // GIVEN
+    int threadsCount = 8;
+    int failuresPerThread = 100;
+    // WHEN
+    CompletableFuture.allOf(IntStream.range(0, threadsCount)
+                                     .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                                       for (int i = 0; i < failuresPerThread; i++) {
+                                         softly.assertThat(true).isFalse(); // isFalse() calls isEqualTo(false)
+                                       }
+                                     }))
+                                     .toArray(CompletableFuture[]::new))
+                     .join();
+    // THEN
+    then(softly.assertionErrorsCollected()).hasSize(threadsCount * failuresPerThread);
+  }
+
+  @Test
+  void should_collect_errors_after_a_soft_assertion_threw_an_exception() {
+    // GIVEN
+    List<String> list = new ArrayList<>(List.of("foo"));
+    Throwable exception = catchThrowable(() -> softly.assertThat(list).allSatisfy(element -> {
+      throw new IllegalStateException("boom");
+    }));
+    // WHEN
+    softly.assertThat(list).isEmpty();
+    // THEN
+    then(exception).isInstanceOf(IllegalStateException.class);
+    then(softly.assertionErrorsCollected()).hasSize(1);
+  }
+
+}
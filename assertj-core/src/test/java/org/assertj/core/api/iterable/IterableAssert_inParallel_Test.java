@@ -0,0 +1,164 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.api.iterable;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.Test;
+
+class IterableAssert_inParallel_Test extends IterableAssert_filtered_baseTest {
+
+  private static final List<Integer> NUMBERS = IntStream.range(0, 1_000).boxed().toList();
+
+  @Test
+  void should_extract_values_in_iterable_order() {
+    assertThat(NUMBERS).inParallel()
+                       .extracting(number -> number * 2)
+                       .hasSize(1_000)
+                       .startsWith(0, 2, 4)
+                       .endsWith(1996, 1998)
+                       .isSorted();
+  }
+
+  @Test
+  void should_extract_properties_in_iterable_order() {
+    assertThat(employees).inParallel()
+                         .extracting("age")
+                         .containsExactly(800, 26, 800, 10);
+  }
+
+  @Test
+  void should_flat_map_values_in_iterable_order() {
+    assertThat(NUMBERS.subList(0, 3)).inParallel()
+                                     .flatMap(number -> List.of(number, -number))
+                                     .containsExactly(0, 0, 1, -1, 2, -2);
+  }
+
+  @Test
+  void should_filter_elements_in_iterable_order() {
+    assertThat(NUMBERS).inParallel()
+                       .filteredOn(number -> number % 100 == 0)
+                       .containsExactly(0, 100, 200, 300, 400, 500, 600, 700, 800, 900);
+    assertThat(employees).inParallel()
+                         .filteredOn(new Condition<>(employee -> employee.getAge() > 100, "old"))
+                         .containsExactly(yoda, obiwan);
+    assertThat(employees).inParallel()
+                         .filteredOnAssertions(employee -> assertThat(employee.getAge()).isLessThan(100))
+                         .containsExactly(luke, noname);
+  }
+
+  @Test
+  void should_stay_in_parallel_mode_after_extracting() {
+    assertThat(NUMBERS).inParallel()
+                       .extracting(number -> number + 1)
+                       .filteredOn(number -> number % 500 == 0)
+                       .containsExactly(500, 1000);
+  }
+
+  @Test
+  void should_evaluate_elements_with_the_given_executor() {
+    // GIVEN
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      // WHEN/THEN
+      assertThat(NUMBERS).inParallel(executor)
+                         .filteredOn(number -> number > 997)
+                         .containsExactly(998, 999);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void should_report_the_failure_of_the_first_failing_element() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(NUMBERS).inParallel().extracting(number -> {
+      if (number >= 500) throw new IllegalStateException("failed on " + number);
+      return number;
+    }));
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class)
+                   .hasMessage("failed on 500");
+  }
+
+  @Test
+  void should_evaluate_element_assertions_in_parallel() {
+    assertThat(NUMBERS).inParallel()
+                       .allSatisfy(number -> assertThat(number).isNotNegative())
+                       .anySatisfy(number -> assertThat(number).isEqualTo(999))
+                       .noneSatisfy(number -> assertThat(number).isNegative())
+                       .allMatch(number -> number < 1_000)
+                       .anyMatch(number -> number == 999)
+                       .noneMatch(number -> number >= 1_000);
+  }
+
+  @Test
+  void should_report_elements_not_satisfying_requirements_in_iterable_order() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(NUMBERS).inParallel()
+                                                                                  .allMatch(number -> number % 300 != 1));
+    // THEN
+    then(assertionError).hasMessageContaining("[1, 301, 601, 901]");
+  }
+
+  @Test
+  void should_report_the_first_element_matching_the_predicate() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(NUMBERS).inParallel()
+                                                                                  .noneMatch(number -> number >= 500));
+    // THEN
+    then(assertionError).hasMessageEndingWith(format("this element did:%n  500"));
+  }
+
+  @Test
+  void should_ignore_failures_after_the_first_element_matching_the_predicate() {
+    assertThat(NUMBERS).inParallel()
+                       .anyMatch(number -> {
+                         if (number > 500) throw new IllegalStateException("should not be reported");
+                         return number == 500;
+                       });
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    List<Integer> numbers = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(numbers).inParallel().extracting(number -> number));
+    // THEN
+    then(assertionError).hasMessageContaining("Expecting actual not to be null");
+  }
+
+  @Test
+  void should_fail_if_given_executor_is_null() {
+    // GIVEN
+    Executor executor = null;
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(NUMBERS).inParallel(executor));
+    // THEN
+    then(throwable).isInstanceOf(NullPointerException.class)
+                   .hasMessage("The executor should not be null");
+  }
+
+}
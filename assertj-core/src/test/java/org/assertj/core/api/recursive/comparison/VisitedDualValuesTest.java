@@ -64,4 +64,71 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_same_values_visited_at_another_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("a"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValuesOtherLocation = new DualValue(list("b"), actual, expected);
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(sameValuesOtherLocation);
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+    BDDAssertions.then(optionalComparisonDifferences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_not_return_the_registered_differences_of_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list(""), new StringBuilder("abc"), new StringBuilder("abc"));
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    DualValue otherDualValue = new DualValue(list(""), new StringBuilder("abc"), new StringBuilder("abc"));
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(otherDualValue);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
+
+  @Test
+  void should_forget_dual_values_and_differences_registered_in_a_rolled_back_transaction() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list("a"), "abc", "abc");
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    int transaction = visitedDualValues.startTransaction();
+    DualValue dualValueInTransaction = new DualValue(list("b"), "def", "def");
+    visitedDualValues.registerVisitedDualValue(dualValueInTransaction);
+    visitedDualValues.registerComparisonDifference(dualValue, new ComparisonDifference(dualValue));
+    // WHEN
+    visitedDualValues.rollback(transaction);
+    // THEN
+    then(visitedDualValues.registeredComparisonDifferencesOf(dualValueInTransaction)).isEmpty();
+    BDDAssertions.then(visitedDualValues.registeredComparisonDifferencesOf(dualValue)).contains(list(comparisonDifference));
+  }
+
+  @Test
+  void should_keep_dual_values_registered_in_a_committed_transaction() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    int outerTransaction = visitedDualValues.startTransaction();
+    visitedDualValues.startTransaction();
+    DualValue dualValue = new DualValue(list("a"), "abc", "abc");
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    visitedDualValues.commit();
+    // WHEN
+    Optional<List<ComparisonDifference>> committedDifferences = visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    visitedDualValues.rollback(outerTransaction);
+    // THEN
+    then(committedDifferences).isPresent();
+    then(visitedDualValues.registeredComparisonDifferencesOf(dualValue)).isEmpty();
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.description.EmptyTextDescription.emptyDescription;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AssertJMultipleFailuresError_getMessage_Test {
+
+  private static final int DEFAULT_MAX_FAILURES_DISPLAYED = StandardRepresentation.getMaxFailuresDisplayed();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    StandardRepresentation.setMaxFailuresDisplayed(DEFAULT_MAX_FAILURES_DISPLAYED);
+  }
+
+  @Test
+  void should_only_display_max_failures_displayed() {
+    // GIVEN
+    StandardRepresentation.setMaxFailuresDisplayed(2);
+    List<AssertionError> errors = list(new AssertionError("error1"), new AssertionError("error2"),
+                                       new AssertionError("error3"), new AssertionError("error4"));
+    AssertJMultipleFailuresError multipleFailuresError = new AssertJMultipleFailuresError("heading", errors);
+    // WHEN
+    String message = multipleFailuresError.getMessage();
+    // THEN
+    then(message).isEqualTo("%nheading (4 failures)%n".formatted() +
+                            "-- failure 1 --error1%n".formatted() +
+                            "-- failure 2 --error2%n".formatted() +
+                            "...(2 remaining failures not displayed - this can be changed with Assertions.setMaxFailuresDisplayed)");
+    then(multipleFailuresError.getFailures()).containsExactlyElementsOf(errors);
+  }
+
+  @Test
+  void should_mention_a_single_failure_not_displayed() {
+    // GIVEN
+    StandardRepresentation.setMaxFailuresDisplayed(1);
+    AssertJMultipleFailuresError multipleFailuresError = new AssertJMultipleFailuresError("heading",
+                                                                                          list(new AssertionError("error1"),
+                                                                                               new AssertionError("error2")));
+    // WHEN
+    String message = multipleFailuresError.getMessage();
+    // THEN
+    then(message).endsWith("%n...(1 remaining failure not displayed - this can be changed with Assertions.setMaxFailuresDisplayed)".formatted());
+  }
+
+  @Test
+  void should_not_build_the_message_of_deferred_failures_not_displayed() {
+    // GIVEN
+    StandardRepresentation.setMaxFailuresDisplayed(1);
+    ErrorMessageFactory notDisplayedMessageFactory = (description, representation) -> {
+      throw new IllegalStateException("should not be called");
+    };
+    AssertJMultipleFailuresError multipleFailuresError = new AssertJMultipleFailuresError("heading", list(
+        new DeferredMessageAssertionError(new BasicErrorMessageFactory("error1"), emptyDescription(), STANDARD_REPRESENTATION),
+        new DeferredMessageAssertionError(notDisplayedMessageFactory, emptyDescription(), STANDARD_REPRESENTATION)));
+    // WHEN
+    String message = multipleFailuresError.getMessage();
+    // THEN
+    then(message).contains("-- failure 1 --error1")
+                 .doesNotContain("-- failure 2 --");
+  }
+
+}
@@ -12,9 +12,12 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
+import java.lang.reflect.InvocationTargetException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +43,31 @@ class ConstructorInvoker_newInstance_Test {
     then(o).asInstanceOf(THROWABLE)
            .hasMessage("Hi");
   }
+
+  @Test
+  void should_fail_every_time_if_class_is_not_found() {
+    // WHEN
+    Throwable firstThrowable = catchThrowable(() -> invoker.newInstance("org.Unknown", new Class<?>[] { String.class }, "Hi"));
+    Throwable secondThrowable = catchThrowable(() -> invoker.newInstance("org.Unknown", new Class<?>[] { String.class }, "Hi"));
+    // THEN
+    then(firstThrowable).isInstanceOf(ClassNotFoundException.class);
+    then(secondThrowable).isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  void should_fail_if_constructor_is_not_found() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1));
+    // THEN
+    then(throwable).isInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  void should_wrap_exception_thrown_by_constructor() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> invoker.newInstance("java.lang.StringBuilder", new Class<?>[] { int.class }, -1));
+    // THEN
+    then(throwable).isInstanceOf(InvocationTargetException.class)
+                   .cause().isInstanceOf(NegativeArraySizeException.class);
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.Representation;
+import org.junit.jupiter.api.Test;
+
+class DeferredMessageAssertionError_Test {
+
+  @Test
+  void should_only_create_message_when_requested() {
+    // GIVEN
+    List<Object> actual = new ArrayList<>(List.of("a"));
+    CountingMessageFactory messageFactory = new CountingMessageFactory(actual);
+    DeferredMessageAssertionError error = new DeferredMessageAssertionError(messageFactory, new TextDescription("test"),
+                                                                            STANDARD_REPRESENTATION);
+    actual.add("b");
+    // WHEN
+    String message = error.getMessage();
+    // THEN
+    then(message).isEqualTo("[test] [\"a\", \"b\"]");
+    then(error.getMessage()).isSameAs(message);
+    then(messageFactory.creationCount).isEqualTo(1);
+  }
+
+  @Test
+  void should_decorate_message_only_when_requested() {
+    // GIVEN
+    CountingMessageFactory messageFactory = new CountingMessageFactory("a");
+    DeferredMessageAssertionError error = new DeferredMessageAssertionError(messageFactory, new TextDescription("test"),
+                                                                            STANDARD_REPRESENTATION);
+    error.initCause(new IllegalStateException("boom"));
+    error.addSuppressed(new IllegalArgumentException("suppressed"));
+    // WHEN
+    DeferredMessageAssertionError decoratedError = error.withDecoratedMessage(message -> message + " at line 42");
+    // THEN
+    then(messageFactory.creationCount).isZero();
+    then(decoratedError).hasMessage("[test] \"a\" at line 42")
+                        .hasCause(error.getCause());
+    then(decoratedError.getStackTrace()).isEqualTo(error.getStackTrace());
+    then(decoratedError.getSuppressed()).isEqualTo(error.getSuppressed());
+    then(messageFactory.creationCount).isEqualTo(1);
+  }
+
+  @Test
+  void should_serialize_message() throws Exception {
+    // GIVEN
+    DeferredMessageAssertionError error = new DeferredMessageAssertionError(new CountingMessageFactory("a"),
+                                                                            new TextDescription("test"),
+                                                                            STANDARD_REPRESENTATION);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(error);
+    }
+    // WHEN
+    Object deserializedError;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedError = in.readObject();
+    }
+    // THEN
+    then(deserializedError).isInstanceOf(DeferredMessageAssertionError.class)
+                           .hasFieldOrPropertyWithValue("message", "[test] \"a\"");
+  }
+
+  private static class CountingMessageFactory implements ErrorMessageFactory {
+
+    private final Object actual;
+    private int creationCount;
+
+    CountingMessageFactory(Object actual) {
+      this.actual = actual;
+    }
+
+    @Override
+    public String create(Description description, Representation representation) {
+      creationCount++;
+      return "[%s] %s".formatted(description.value(), representation.toStringOf(actual));
+    }
+  }
+
+}
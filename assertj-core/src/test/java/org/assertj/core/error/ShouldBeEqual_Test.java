@@ -22,7 +22,10 @@ import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.testkit.CaseInsensitiveStringComparator;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -284,4 +287,27 @@ class ShouldBeEqual_Test {
 
   }
 
+
+  @Test
+  void should_represent_actual_and_expected_once() {
+    // GIVEN
+    AtomicInteger representedValues = new AtomicInteger();
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      public String toStringOf(Object object) {
+        representedValues.incrementAndGet();
+        return super.toStringOf(object);
+      }
+    };
+    ShouldBeEqual shouldBeEqual = ShouldBeEqual.shouldBeEqual("Luke", "Yoda", representation);
+    // WHEN
+    AssertionError error = shouldBeEqual.toAssertionError(new TextDescription("Jedi"), representation);
+    // THEN
+    then(error).isInstanceOf(AssertionFailedError.class)
+               .hasMessage(format("[Jedi] %n" +
+                                  "expected: \"Yoda\"%n" +
+                                  " but was: \"Luke\""));
+    then(representedValues).hasValue(2);
+  }
+
 }
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.util.Lists;
@@ -49,4 +50,20 @@ class ShouldHaveContent_create_Test {
                                    + DIFF,
                                    defaultCharset().name()));
   }
+
+  @Test
+  void should_only_display_the_first_100_diffs() {
+    // GIVEN
+    final FakeFile file = new FakeFile("xyz");
+    Delta<String> delta = mock(Delta.class);
+    when(delta.toString()).thenReturn(DIFF);
+    List<Delta<String>> diffs = IntStream.range(0, 102).mapToObj(i -> delta).toList();
+    ErrorMessageFactory factory = shouldHaveContent(file, defaultCharset(), diffs);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), CONFIGURATION_PROVIDER.representation());
+    // THEN
+    then(message).endsWith(format(DIFF + "%n... and 2 more differences"));
+    // 100 displayed diffs split the message in 101 parts
+    then(message.split(DIFF, -1)).hasSize(101);
+  }
 }
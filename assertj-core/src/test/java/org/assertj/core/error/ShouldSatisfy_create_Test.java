@@ -17,6 +17,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldSatisfy.shouldSatisfy;
 import static org.assertj.core.error.ShouldSatisfy.shouldSatisfyExactlyInAnyOrder;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import org.assertj.core.api.TestCondition;
@@ -57,4 +58,21 @@ class ShouldSatisfy_create_Test {
                                    + "  [\"Luke\", \"Leia\", \"Yoda\"]%n"
                                    + "to satisfy all the consumers in any order."));
   }
+
+  @Test
+  void should_create_error_message_with_unmatched_consumers_and_elements() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldSatisfyExactlyInAnyOrder(newArrayList("Luke", "Leia", "Yoda"), list(0, 2),
+                                                                 list("Leia", "Yoda"));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n"
+                                   + "Expecting actual:%n"
+                                   + "  [\"Luke\", \"Leia\", \"Yoda\"]%n"
+                                   + "to satisfy all the consumers in any order but these consumers (0-based indexes) could not be matched to distinct elements:%n"
+                                   + "  [0, 2]%n"
+                                   + "and these elements were not matched by any consumer:%n"
+                                   + "  [\"Leia\", \"Yoda\"]"));
+  }
 }
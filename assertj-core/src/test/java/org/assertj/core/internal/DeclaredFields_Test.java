@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class DeclaredFields_Test {
+
+  @Test
+  void should_return_fields_including_inherited_ones_in_declaration_order() {
+    // WHEN
+    Set<Field> fields = DeclaredFields.of(Child.class).fieldsIncludingInherited();
+    // THEN
+    then(fields).extracting(Field::getName).containsExactly("childName", "age", "parentName");
+  }
+
+  @Test
+  void should_return_fields_names_including_inherited_ones() {
+    // WHEN
+    Set<String> fieldsNames = DeclaredFields.of(Child.class).fieldsNamesIncludingInherited();
+    // THEN
+    then(fieldsNames).containsExactlyInAnyOrder("childName", "age", "parentName");
+  }
+
+  @Test
+  void should_return_sorted_names_of_the_class_own_fields() {
+    // WHEN/THEN
+    then(DeclaredFields.of(Child.class).sortedFieldsNames()).containsExactly("age", "childName");
+  }
+
+  @Test
+  void should_look_up_fields_once_per_class() {
+    // WHEN
+    DeclaredFields declaredFields = DeclaredFields.of(Child.class);
+    // THEN
+    then(DeclaredFields.of(Child.class)).isSameAs(declaredFields);
+  }
+
+  @Test
+  void should_not_expose_cached_fields_to_modifications() {
+    // GIVEN
+    Set<Field> fields = Objects.getDeclaredFieldsIncludingInherited(Child.class);
+    // WHEN
+    fields.clear();
+    Throwable throwable = catchThrowable(() -> Objects.getFieldsNames(Child.class).clear());
+    // THEN
+    then(Objects.getDeclaredFieldsIncludingInherited(Child.class)).hasSize(3);
+    then(throwable).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @SuppressWarnings("unused")
+  private static class Parent {
+    private static final String CONSTANT = "constant";
+    private String parentName;
+  }
+
+  @SuppressWarnings("unused")
+  private static class Child extends Parent {
+    private static int counter;
+    private String childName;
+    private int age;
+  }
+
+}
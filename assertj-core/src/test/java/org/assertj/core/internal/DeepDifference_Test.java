@@ -298,6 +298,17 @@ class DeepDifference_Test {
     assertThat(DeepDifference.hasCustomHashCode(EmptyClassWithEquals.class)).isTrue();
   }
 
+  @Test
+  void should_not_call_hashCode_of_compared_objects() {
+    // GIVEN
+    Wrapper a = new Wrapper(new Wrapper(new ObjectWithFailingHashCode("alpha")));
+    Wrapper b = new Wrapper(new Wrapper(new ObjectWithFailingHashCode("alpha")));
+    // WHEN/THEN
+    assertHaveNoDifferences(a, b);
+    ((ObjectWithFailingHashCode) ((Wrapper) b.o).o).s = "bravo";
+    assertHaveDifferences(a, b);
+  }
+
   @Test
   void shouldBeAbleToUseCustomComparatorForHashMap() {
     class ObjectWithMapField {
@@ -405,6 +416,20 @@ class DeepDifference_Test {
     }
   }
 
+  private static class ObjectWithFailingHashCode {
+
+    private String s;
+
+    private ObjectWithFailingHashCode(String s) {
+      this.s = s;
+    }
+
+    @Override
+    public int hashCode() {
+      throw new UnsupportedOperationException("hashCode should not be called");
+    }
+  }
+
   private static class SetWrapper {
 
     @SuppressWarnings("unused")
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+class ElementsByHashCode_Test {
+
+  @Test
+  void should_only_look_up_the_value_hash_code_group_if_not_checking_other_groups() {
+    // GIVEN
+    ElementsByHashCode elements = new ElementsByHashCode(list("a", "b"), ElementsByHashCode_Test::equalIgnoringCase, false);
+    // WHEN/THEN
+    then(elements.contains("a")).isTrue();
+    then(elements.contains("A")).isFalse();
+    then(elements.removeFirst("A")).isFalse();
+    then(elements.removeFirst("a")).isTrue();
+    then(elements.contains("a")).isFalse();
+  }
+
+  @Test
+  void should_look_up_other_groups_if_value_hash_code_group_has_no_match_when_checking_other_groups() {
+    // GIVEN
+    ElementsByHashCode elements = new ElementsByHashCode(list("a", "b", "A"), ElementsByHashCode_Test::equalIgnoringCase, true);
+    // WHEN/THEN
+    then(elements.contains("B")).isTrue();
+    then(elements.removeFirst("B")).isTrue();
+    then(elements.contains("B")).isFalse();
+    then(elements.removeFirst("a")).isTrue();
+    then(elements.removeFirst("a")).isTrue();
+    then(elements.removeFirst("a")).isFalse();
+  }
+
+  @Test
+  void should_match_elements_in_the_given_order() {
+    // GIVEN
+    ElementsByHashCode elements = new ElementsByHashCode(list("abc"), (element, value) -> Objects.equals(element, value + "c"),
+                                                         true);
+    // WHEN/THEN
+    then(elements.contains("ab")).isTrue();
+    then(elements.contains("abc")).isFalse();
+  }
+
+  private static boolean equalIgnoringCase(Object element, Object value) {
+    return ((String) element).equalsIgnoreCase((String) value);
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.FieldLocationMatcher.matchingFields;
+import static org.assertj.core.internal.FieldLocationMatcher.matchingFieldsAndTheirChildren;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Sets.set;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.junit.jupiter.api.Test;
+
+class FieldLocationMatcher_Test {
+
+  @Test
+  void should_match_fields_and_their_children() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(set("name", "address.street"), emptyList());
+    // WHEN/THEN
+    then(matcher.matches(new FieldLocation("name"))).isTrue();
+    then(matcher.matches(new FieldLocation(list("name", "first")))).isTrue();
+    then(matcher.matches(new FieldLocation(list("address", "street", "[0]", "number")))).isTrue();
+    then(matcher.matches(new FieldLocation("address"))).isFalse();
+    then(matcher.matches(new FieldLocation("names"))).isFalse();
+    then(matcher.matches(new FieldLocation(list("person", "name")))).isFalse();
+    then(matcher.matches(FieldLocation.rootFieldLocation())).isFalse();
+  }
+
+  @Test
+  void should_match_fields_whose_hierarchy_matches_any_regex() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(emptySet(), patterns(".*id", "name\\.fi.*", "(a|b)"));
+    // WHEN/THEN
+    then(matcher.matches(new FieldLocation("id"))).isTrue();
+    then(matcher.matches(new FieldLocation(list("person", "id", "value")))).isTrue();
+    then(matcher.matches(new FieldLocation(list("name", "first")))).isTrue();
+    then(matcher.matches(new FieldLocation(list("b", "c")))).isTrue();
+    then(matcher.matches(new FieldLocation(list("name", "last")))).isFalse();
+    then(matcher.matches(new FieldLocation(list("ab")))).isFalse();
+  }
+
+  @Test
+  void should_only_match_fields_exactly() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFields(set("name"), patterns(".*\\.id"));
+    // WHEN/THEN
+    then(matcher.matches(new FieldLocation("name"))).isTrue();
+    then(matcher.matches(new FieldLocation(list("person", "[1]", "id")))).isTrue();
+    then(matcher.matches(new FieldLocation(list("name", "first")))).isFalse();
+    then(matcher.matches(new FieldLocation(list("person", "id", "value")))).isFalse();
+  }
+
+  @Test
+  void should_honor_regexes_that_cannot_be_combined() {
+    // GIVEN
+    FieldLocationMatcher matcher = matchingFields(emptySet(), patterns("(?i)NAME", "(a)\\1", "x"));
+    // WHEN/THEN
+    then(matcher.matches(new FieldLocation("name"))).isTrue();
+    then(matcher.matches(new FieldLocation("aa"))).isTrue();
+    then(matcher.matches(new FieldLocation("x"))).isTrue();
+    then(matcher.matches(new FieldLocation("X"))).isFalse();
+    then(matcher.matches(new FieldLocation("ab"))).isFalse();
+  }
+
+  @Test
+  void should_not_take_into_account_changes_made_to_the_given_collections() {
+    // GIVEN
+    Set<String> fields = set("name");
+    List<Pattern> regexes = patterns("i.");
+    FieldLocationMatcher matcher = matchingFieldsAndTheirChildren(fields, regexes);
+    // WHEN
+    fields.remove("name");
+    fields.add("address");
+    regexes.set(0, Pattern.compile("z.."));
+    // THEN
+    then(matcher.matches(new FieldLocation("name"))).isTrue();
+    then(matcher.matches(new FieldLocation("id"))).isTrue();
+    then(matcher.matches(new FieldLocation("address"))).isFalse();
+    then(matcher.matches(new FieldLocation("zip"))).isFalse();
+  }
+
+  private static List<Pattern> patterns(String... regexes) {
+    List<Pattern> patterns = new ArrayList<>();
+    for (String regex : regexes) {
+      patterns.add(Pattern.compile(regex));
+    }
+    return patterns;
+  }
+}
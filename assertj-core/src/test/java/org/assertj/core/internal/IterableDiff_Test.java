@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Comparator.comparing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
 import static org.assertj.core.util.Lists.list;
@@ -142,9 +143,58 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_report_elements_overriding_equals_but_not_hashCode_as_differences() {
+    // GIVEN
+    List<EqualsWithoutHashCode> actual = newArrayList(new EqualsWithoutHashCode("a"));
+    List<EqualsWithoutHashCode> expected = newArrayList(new EqualsWithoutHashCode("a"));
+    // WHEN
+    IterableDiff<EqualsWithoutHashCode> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactlyElementsOf(expected);
+    assertThat(diff.unexpected).containsExactlyElementsOf(actual);
+  }
+
+  @Test
+  void should_not_report_any_differences_between_iterables_of_elements_overriding_equals_but_not_hashCode_with_a_comparator() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(comparing((EqualsWithoutHashCode o) -> o.value));
+    List<EqualsWithoutHashCode> actual = newArrayList(new EqualsWithoutHashCode("a"), new EqualsWithoutHashCode("b"));
+    List<EqualsWithoutHashCode> expected = newArrayList(new EqualsWithoutHashCode("b"), new EqualsWithoutHashCode("a"));
+    // WHEN
+    IterableDiff<EqualsWithoutHashCode> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_compare_array_elements_by_content() {
+    // GIVEN
+    List<int[]> actual = list(new int[] { 1, 2 }, new int[] { 3 });
+    List<int[]> expected = list(new int[] { 3 }, new int[] { 1, 2 });
+    // WHEN
+    IterableDiff<int[]> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
   private class Foo {
   }
 
+  private static class EqualsWithoutHashCode {
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof EqualsWithoutHashCode other && value.equals(other.value);
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
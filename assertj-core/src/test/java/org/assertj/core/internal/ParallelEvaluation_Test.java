@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ParallelEvaluation_Test {
+
+  private static final List<Integer> NUMBERS = IntStream.range(0, 10_000).boxed().toList();
+
+  static List<Executor> executors() {
+    Executor threadPerTaskExecutor = task -> new Thread(task).start();
+    Executor callerThreadExecutor = Runnable::run;
+    return List.of(ForkJoinPool.commonPool(), threadPerTaskExecutor, callerThreadExecutor);
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_map_elements_in_order(Executor executor) {
+    // WHEN
+    List<String> results = ParallelEvaluation.map(NUMBERS, String::valueOf, executor);
+    // THEN
+    then(results).hasSize(NUMBERS.size())
+                 .startsWith("0", "1", "2")
+                 .endsWith("9998", "9999")
+                 .isSortedAccordingTo((s1, s2) -> Integer.compare(Integer.parseInt(s1), Integer.parseInt(s2)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_filter_elements_in_order(Executor executor) {
+    // WHEN
+    List<Integer> results = ParallelEvaluation.filter(NUMBERS, number -> number % 1000 == 0, executor);
+    // THEN
+    then(results).containsExactly(0, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000);
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_map_empty_list(Executor executor) {
+    // WHEN
+    List<Object> results = ParallelEvaluation.map(List.of(), Function.identity(), executor);
+    // THEN
+    then(results).isEmpty();
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_map_elements_until_the_first_result_matching_the_stop_condition(Executor executor) {
+    // WHEN
+    List<Integer> results = ParallelEvaluation.mapUntil(NUMBERS, number -> number * 2, result -> result >= 1000, executor);
+    // THEN
+    then(results).hasSize(501)
+                 .endsWith(998, 1000)
+                 .isSorted();
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_map_all_elements_when_no_result_matches_the_stop_condition(Executor executor) {
+    // WHEN
+    List<Integer> results = ParallelEvaluation.mapUntil(NUMBERS, Function.identity(), result -> result < 0, executor);
+    // THEN
+    then(results).isEqualTo(NUMBERS);
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_ignore_failures_after_the_first_result_matching_the_stop_condition(Executor executor) {
+    // GIVEN
+    Function<Integer, Integer> failingFunction = number -> {
+      if (number > 5000) throw new IllegalStateException("failed on " + number);
+      return number;
+    };
+    // WHEN
+    List<Integer> results = ParallelEvaluation.mapUntil(NUMBERS, failingFunction, result -> result == 5000, executor);
+    // THEN
+    then(results).hasSize(5001);
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_rethrow_the_exception_of_the_first_failing_element(Executor executor) {
+    // GIVEN
+    Function<Integer, Integer> failingFunction = number -> {
+      if (number % 100 == 42) throw new IllegalStateException("failed on " + number);
+      return number;
+    };
+    // WHEN
+    Throwable throwable = catchThrowable(() -> ParallelEvaluation.map(NUMBERS, failingFunction, executor));
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class)
+                   .hasMessage("failed on 42");
+  }
+
+  @ParameterizedTest
+  @MethodSource("executors")
+  void should_rethrow_errors_as_is(Executor executor) {
+    // GIVEN
+    Function<Integer, Integer> failingFunction = number -> {
+      if (number >= 5000) throw new AssertionError("failed on " + number);
+      return number;
+    };
+    // WHEN
+    Throwable throwable = catchThrowable(() -> ParallelEvaluation.filter(NUMBERS, number -> failingFunction.apply(number) > 0,
+                                                                         executor));
+    // THEN
+    then(throwable).isInstanceOf(AssertionError.class)
+                   .hasMessage("failed on 5000");
+  }
+
+}
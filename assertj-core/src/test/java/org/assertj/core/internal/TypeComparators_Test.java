@@ -95,6 +95,42 @@ class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  void should_find_comparator_registered_after_a_lookup_found_none() {
+    // GIVEN
+    Comparator<I1> i1Comparator = newComparator();
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNull();
+    // WHEN
+    typeComparators.registerComparator(I1.class, i1Comparator);
+    // THEN
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(i1Comparator);
+  }
+
+  @Test
+  void should_find_more_relevant_comparator_registered_after_a_lookup() {
+    // GIVEN
+    Comparator<Bar> barComparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.registerComparator(Bar.class, barComparator);
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(barComparator);
+    // WHEN
+    typeComparators.registerComparator(Foo.class, fooComparator);
+    // THEN
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isEqualTo(fooComparator);
+  }
+
+  @Test
+  void should_find_no_comparator_after_clear() {
+    // GIVEN
+    typeComparators.registerComparator(Bar.class, newComparator());
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNotNull();
+    // WHEN
+    typeComparators.clear();
+    // THEN
+    assertThat(typeComparators.getComparatorForType(Foo.class)).isNull();
+    assertThat(typeComparators.hasComparatorForType(Foo.class)).isFalse();
+  }
+
   @Test
   void should_be_empty() {
     typeComparators.clear();
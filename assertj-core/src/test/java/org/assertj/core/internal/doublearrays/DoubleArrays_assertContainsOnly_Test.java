@@ -87,6 +87,21 @@ class DoubleArrays_assertContainsOnly_Test extends DoubleArraysBaseTest {
                                                                                   newArrayList(10d)).create());
   }
 
+  @Test
+  void should_pass_if_actual_contains_NaN_and_given_values_contain_NaN() {
+    actual = arrayOf(6d, Double.NaN);
+    arrays.assertContainsOnly(someInfo(), actual, arrayOf(Double.NaN, 6d));
+  }
+
+  @Test
+  void should_fail_if_actual_contains_zero_and_given_values_contain_negative_zero() {
+    actual = arrayOf(6d, 0.0);
+    double[] expected = { 6d, -0.0 };
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertContainsOnly(someInfo(), actual, expected))
+                                                   .withMessage(shouldContainOnly(actual, expected, newArrayList(-0.0),
+                                                                                  newArrayList(0.0)).create());
+  }
+
   @Test
   void should_pass_if_actual_contains_given_values_only_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsOnly(someInfo(), actual, arrayOf(6d, -8d, 10d));
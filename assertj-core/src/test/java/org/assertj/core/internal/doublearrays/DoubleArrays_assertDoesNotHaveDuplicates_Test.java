@@ -57,6 +57,14 @@ class DoubleArrays_assertDoesNotHaveDuplicates_Test extends DoubleArraysBaseTest
                                                                                         newLinkedHashSet(6d, 8d)).create());
   }
 
+  @Test
+  void should_fail_if_actual_contains_NaN_more_than_once() {
+    actual = arrayOf(Double.NaN, 8d, Double.NaN);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertDoesNotHaveDuplicates(someInfo(), actual))
+                                                   .withMessage(shouldNotHaveDuplicates(actual,
+                                                                                        newLinkedHashSet(Double.NaN)).create());
+  }
+
   @Test
   void should_pass_if_actual_does_not_have_duplicates_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertDoesNotHaveDuplicates(someInfo(), actual);
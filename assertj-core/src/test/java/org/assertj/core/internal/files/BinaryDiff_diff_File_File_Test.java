@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.io.File, java.io.File)}</code>.
+ */
+class BinaryDiff_diff_File_File_Test {
+
+  private static BinaryDiff binaryDiff;
+
+  @BeforeAll
+  static void setUpOnce() {
+    binaryDiff = new BinaryDiff();
+  }
+
+  private File actual;
+  private File expected;
+
+  @BeforeEach
+  void setUp() {
+    actual = Files.newTemporaryFile();
+    actual.deleteOnExit();
+    expected = Files.newTemporaryFile();
+    expected.deleteOnExit();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    writeByteArrayToFile(actual, "test".getBytes());
+    writeByteArrayToFile(expected, "test".getBytes());
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_are_empty() throws IOException {
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    writeByteArrayToFile(actual, "test".getBytes());
+    writeByteArrayToFile(expected, "fest".getBytes());
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(0);
+    assertThat(result.actual).isEqualTo("0x74");
+    assertThat(result.expected).isEqualTo("0x66");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    writeByteArrayToFile(actual, "foo".getBytes());
+    writeByteArrayToFile(expected, "foobar".getBytes());
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x62");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    writeByteArrayToFile(actual, "foobar".getBytes());
+    writeByteArrayToFile(expected, "foo".getBytes());
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("0x62");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  void should_return_first_diff_of_large_files() throws IOException {
+    byte[] content = new byte[1_000_000];
+    Arrays.fill(content, (byte) 0xCA);
+    writeByteArrayToFile(expected, content);
+    content[700_000] = (byte) 0xFE;
+    content[800_000] = (byte) 0xFE;
+    writeByteArrayToFile(actual, content);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(700_000);
+    assertThat(result.actual).isEqualTo("0xFE");
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+}
@@ -131,6 +131,40 @@ class Diff_diff_File_Test {
                                           + "   \"line 11\"]%n"));
   }
 
+  @Test
+  void should_report_line_numbers_of_differences_following_common_lines() throws IOException {
+    // GIVEN
+    writer.write(actual, "line0", "line1", "line_2", "line3", "line4");
+    writer.write(expected, "line0", "line1", "line2", "line3", "line4");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).singleElement().hasToString(format("Changed content at line 3:%n"
+                                                   + "expecting:%n"
+                                                   + "  [\"line2\"]%n"
+                                                   + "but was:%n"
+                                                   + "  [\"line_2\"]%n"));
+  }
+
+  @Test
+  void should_report_all_diffs() throws IOException {
+    // GIVEN
+    String[] actualLines = new String[300];
+    String[] expectedLines = new String[300];
+    for (int i = 0; i < 300; i++) {
+      // every other line differs
+      actualLines[i] = i % 2 == 0 ? "line" + i : "line_" + i;
+      expectedLines[i] = "line" + i;
+    }
+    writer.write(actual, actualLines);
+    writer.write(expected, expectedLines);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).hasSize(150);
+    then(diffs.get(149).lineNumber()).isEqualTo(300);
+  }
+
   @Test
   void should_return_diffs_if_content_of_actual_is_shorter_than_content_of_expected() throws IOException {
     // GIVEN
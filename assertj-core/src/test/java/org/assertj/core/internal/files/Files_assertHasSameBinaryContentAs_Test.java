@@ -12,7 +12,6 @@
  */
 package org.assertj.core.internal.files;
 
-import static java.nio.file.Files.readAllBytes;
 import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
 import static org.assertj.core.api.Assertions.catchNullPointerException;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
@@ -40,14 +39,12 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
 
   private static File actual;
   private static File expected;
-  private static byte[] expectedBytes;
 
   @BeforeAll
   static void setUpOnce() throws IOException {
     // Does not matter if the values differ, the actual comparison is mocked in this test
     actual = resourceFile("actual_file.txt");
     expected = resourceFile("expected_file.txt");
-    expectedBytes = readAllBytes(expected.toPath());
   }
 
   @Test
@@ -107,7 +104,7 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
   void should_throw_error_wrapping_caught_IOException() throws IOException {
     // GIVEN
     IOException cause = new IOException();
-    given(binaryDiff.diff(actual, expectedBytes)).willThrow(cause);
+    given(binaryDiff.diff(actual, expected)).willThrow(cause);
     // WHEN
     UncheckedIOException uioe = catchThrowableOfType(UncheckedIOException.class,
                                                      () -> underTest.assertSameBinaryContentAs(INFO, actual, expected));
@@ -119,7 +116,7 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
   void should_fail_if_file_does_not_have_expected_binary_content() throws IOException {
     // GIVEN
     BinaryDiff binaryDiff = new BinaryDiff();
-    BinaryDiffResult diff = binaryDiff.diff(actual, expectedBytes);
+    BinaryDiffResult diff = binaryDiff.diff(actual, expected);
     // WHEN
     expectAssertionError(() -> unMockedFiles.assertSameBinaryContentAs(INFO, actual, expected));
     // THEN
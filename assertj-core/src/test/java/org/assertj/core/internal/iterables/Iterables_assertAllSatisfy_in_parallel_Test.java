@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.testkit.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.IterablesBaseTest;
+import org.junit.jupiter.api.Test;
+
+class Iterables_assertAllSatisfy_in_parallel_Test extends IterablesBaseTest {
+
+  private static final ForkJoinPool EXECUTOR = ForkJoinPool.commonPool();
+
+  private List<String> actual = IntStream.range(0, 1_000).mapToObj(i -> "element-" + i).toList();
+
+  @Test
+  void should_pass_if_all_elements_satisfy_requirements() {
+    iterables.assertAllSatisfy(someInfo(), actual, s -> assertThat(s).startsWith("element-"), EXECUTOR);
+  }
+
+  @Test
+  void should_report_unsatisfied_requirements_in_iterable_order() {
+    // GIVEN
+    Consumer<String> requirements = s -> assertThat(Integer.parseInt(s.substring(8)) % 250).isNotZero();
+    // WHEN
+    AssertionError error = expectAssertionError(() -> iterables.assertAllSatisfy(someInfo(), actual, requirements, EXECUTOR));
+    // THEN
+    then(error.getMessage()).containsSubsequence(unsatisfiedRequirementOf("element-0"),
+                                                 unsatisfiedRequirementOf("element-250"),
+                                                 unsatisfiedRequirementOf("element-500"),
+                                                 unsatisfiedRequirementOf("element-750"))
+                            .doesNotContain(unsatisfiedRequirementOf("element-1"));
+  }
+
+  @Test
+  void should_fail_if_consumer_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> iterables.assertAllSatisfy(someInfo(), actual, null, EXECUTOR))
+                                    .withMessage("The Consumer<T> expressing the assertions requirements must not be null");
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> iterables.assertAllSatisfy(someInfo(), null, s -> {}, EXECUTOR));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  private static String unsatisfiedRequirementOf(String element) {
+    return format("%n\"%s\"%nerror: ", element);
+  }
+}
@@ -69,6 +69,11 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
     iterables.assertContainsOnly(someInfo(), actual, array("Luke", "Luke", "Luke", "Yoda", "Leia"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_given_arrays_only() {
+    iterables.assertContainsOnly(someInfo(), list(new int[] { 1, 2 }, new int[] { 3 }), array(new int[] { 3 }, new int[] { 1, 2 }));
+  }
+
   @Test
   void should_pass_if_actual_and_given_values_are_empty() {
     actual.clear();
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.BDDAssertions.then;
@@ -20,10 +21,12 @@ import static org.assertj.core.error.ShouldSatisfy.shouldSatisfyExactlyInAnyOrde
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.testkit.Jedi;
@@ -76,7 +79,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(0), list("Yoda")).create());
   }
 
   @Test
@@ -91,7 +94,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(1), list("Leia")).create());
   }
 
   @Test
@@ -106,7 +109,7 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
                                                                                                                 consumer2,
                                                                                                                 consumer3)));
     // THEN
-    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual).create());
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(actual, list(2), list("Yoda")).create());
   }
 
   @Test
@@ -191,6 +194,33 @@ class Iterables_assertSatisfiesExactlyInAnyOrder_Test extends IterablesBaseTest
     iterables.assertSatisfiesExactlyInAnyOrder(info, actual, consumers);
   }
 
+  @Test
+  void should_pass_in_polynomial_time_when_many_consumers_are_satisfied_by_similar_elements() {
+    // GIVEN
+    List<Integer> numbers = IntStream.range(0, 100).boxed().collect(toList());
+    // consumer i is satisfied by all numbers >= i, only the identity permutation satisfies all consumers
+    Consumer<Integer>[] consumers = IntStream.range(0, 100)
+                                             .mapToObj(i -> (Consumer<Integer>) number -> assertThat(number).isGreaterThanOrEqualTo(i))
+                                             .toArray(Consumer[]::new);
+    // WHEN/THEN
+    iterables.assertSatisfiesExactlyInAnyOrder(info, numbers, consumers);
+  }
+
+  @Test
+  void should_report_the_unmatched_consumers_and_elements() {
+    // GIVEN
+    List<Integer> numbers = newArrayList(1, 2, 3, 4);
+    Consumer<Integer>[] consumers = array(number -> assertThat(number).isEven(),
+                                          number -> assertThat(number).isEven(),
+                                          number -> assertThat(number).isEven(),
+                                          number -> assertThat(number).isOdd());
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> iterables.assertSatisfiesExactlyInAnyOrder(info, numbers,
+                                                                                                          consumers));
+    // THEN
+    then(assertionError).hasMessage(shouldSatisfyExactlyInAnyOrder(numbers, list(2), list(3)).create());
+  }
+
   private static class JediOverridingEquals extends Jedi {
 
     private JediOverridingEquals(String name, String lightSaberColor) {
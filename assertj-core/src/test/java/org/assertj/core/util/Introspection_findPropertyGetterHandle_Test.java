@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.introspection.Introspection.findPropertyGetterHandle;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class Introspection_findPropertyGetterHandle_Test {
+
+  private final Employee judy = new Employee(100000.0, 31);
+
+  @Test
+  void should_return_a_handle_invoking_the_getter() throws Throwable {
+    // WHEN
+    Optional<MethodHandle> getter = findPropertyGetterHandle("age", Employee.class);
+    // THEN
+    then(getter).isPresent();
+    then((Object) getter.get().invokeExact((Object) judy)).isEqualTo(31);
+  }
+
+  @Test
+  void should_return_empty_if_there_is_no_getter() {
+    // WHEN
+    Optional<MethodHandle> getter = findPropertyGetterHandle("salary", Employee.class);
+    // THEN
+    then(getter).isEmpty();
+  }
+
+  @Test
+  void should_return_empty_if_the_getter_is_not_public() {
+    // WHEN
+    Optional<MethodHandle> getter = findPropertyGetterHandle("firstJob", Employee.class);
+    // THEN
+    then(getter).isEmpty();
+  }
+
+}
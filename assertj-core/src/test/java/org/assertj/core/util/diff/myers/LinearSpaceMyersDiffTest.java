@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  private final LinearSpaceMyersDiff<String> diff = new LinearSpaceMyersDiff<>();
+
+  @Test
+  void should_find_inserted_elements() {
+    // WHEN
+    Patch<String> patch = diff.diff(list("a", "d"), list("a", "b", "c", "d"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(1, emptyList()),
+                                                                    new Chunk<>(1, list("b", "c"))));
+  }
+
+  @Test
+  void should_find_deleted_elements() {
+    // WHEN
+    Patch<String> patch = diff.diff(list("a", "b", "c", "d"), list("a", "d"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new DeleteDelta<>(new Chunk<>(1, list("b", "c")),
+                                                                    new Chunk<>(1, emptyList())));
+  }
+
+  @Test
+  void should_find_changed_elements() {
+    // WHEN
+    Patch<String> patch = diff.diff(list("a", "b", "c"), list("a", "x", "c"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("b")), new Chunk<>(1, list("x"))));
+  }
+
+  @Test
+  void should_find_no_differences_in_equal_lists() {
+    // WHEN
+    Patch<String> patch = diff.diff(list("a", "b", "c"), list("a", "b", "c"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_differences_between_empty_and_non_empty_lists() {
+    // WHEN
+    Patch<String> insertion = diff.diff(emptyList(), list("a"));
+    Patch<String> deletion = diff.diff(list("a"), emptyList());
+    // THEN
+    assertThat(insertion.getDeltas()).singleElement().isInstanceOf(InsertDelta.class);
+    assertThat(deletion.getDeltas()).singleElement().isInstanceOf(DeleteDelta.class);
+  }
+
+  @Test
+  void should_find_as_many_differences_as_myers_diff_and_produce_a_patch_to_the_revised_list() {
+    Random random = new Random(42);
+    for (int i = 0; i < 500; i++) {
+      // GIVEN
+      List<String> original = randomList(random);
+      List<String> revised = randomList(random);
+      // WHEN
+      Patch<String> patch = diff.diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(editDistance(patch)).as("diff of %s and %s", original, revised)
+                                     .isEqualTo(editDistance(new MyersDiff<String>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_report_a_single_change_when_there_are_more_differences_than_the_max_edit_distance() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f");
+    List<String> revised = list("a", "x", "c", "y", "e", "z");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(4).diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("b", "c", "d", "e", "f")),
+                                                                    new Chunk<>(1, list("x", "c", "y", "e", "z"))));
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  void should_report_all_the_differences_when_there_are_less_than_the_max_edit_distance() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f");
+    List<String> revised = list("a", "x", "c", "y", "e", "z");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(6).diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(3)
+                                 .allSatisfy(delta -> assertThat(delta).isInstanceOf(ChangeDelta.class));
+  }
+
+  @Test
+  void should_fail_if_max_edit_distance_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new LinearSpaceMyersDiff<String>(0))
+                                        .withMessage("maxEditDistance must be positive");
+  }
+
+  private static List<String> randomList(Random random) {
+    int size = random.nextInt(30);
+    List<String> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(String.valueOf((char) ('a' + random.nextInt(4))));
+    }
+    return list;
+  }
+
+  private static int editDistance(Patch<String> patch) {
+    return patch.getDeltas().stream()
+                .mapToInt(delta -> delta.getOriginal().size() + delta.getRevised().size())
+                .sum();
+  }
+
+}
@@ -139,4 +139,36 @@ class PropertySupport_propertyValues_Test {
                                                                                                            Employee.class);
   }
 
+  @Test
+  void should_invoke_getters_once_per_element() {
+    // GIVEN
+    List<CountingGetter> elements = newArrayList(new CountingGetter(), new CountingGetter());
+    // WHEN
+    List<Integer> values = PropertySupport.instance().propertyValues("value", Integer.class, elements);
+    // THEN
+    assertThat(values).containsExactly(1, 1);
+    assertThat(elements).extracting(element -> element.invocations).containsExactly(1, 1);
+  }
+
+  @Test
+  void should_report_the_exception_thrown_by_a_getter() {
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> PropertySupport.instance().propertyValue("failing",
+                                                                                                                  Object.class,
+                                                                                                                  new CountingGetter()))
+                                                       .withMessage("Unable to invoke getter getFailing in CountingGetter, exception: java.lang.IllegalStateException: boom")
+                                                       .satisfies(error -> assertThat(error.getterInvocationException()).isPresent());
+  }
+
+  public static class CountingGetter {
+    private int invocations;
+
+    public int getValue() {
+      return ++invocations;
+    }
+
+    public Object getFailing() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
 }
@@ -19,6 +19,7 @@ import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 
@@ -44,13 +45,13 @@ class SoftAssertionsLineNumberTest {
                                                   + "  1%n"
                                                   + "to be less than:%n"
                                                   + "  0 %n"
-                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:37)%n"))
+                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:38)%n"))
                      .hasMessageContaining(format("%n"
                                                   + "Expecting actual:%n"
                                                   + "  1%n"
                                                   + "to be less than:%n"
                                                   + "  1 %n"
-                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:38)"));
+                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions(SoftAssertionsLineNumberTest.java:39)"));
   }
 
   @Test
@@ -69,16 +70,37 @@ class SoftAssertionsLineNumberTest {
                                                   + "Expecting Optional to contain:%n"
                                                   + "  \"Foo\"%n"
                                                   + "but was empty.%n"
-                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:60)%n"))
+                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:61)%n"))
                      .hasMessageContaining(format("%n"
                                                   + "Expecting actual not to be null%n"
-                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:62)%n"))
+                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:63)%n"))
                      .hasMessageContaining(format("%n"
                                                   + "Expecting all elements of:%n"
                                                   + "  [\"a\", \"b\", \"C\"]%n"
                                                   + "to match given predicate but this element did not:%n"
                                                   + "  \"C\"%n"
-                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:64)"));
+                                                  + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_even_if_it_came_from_nested_calls(SoftAssertionsLineNumberTest.java:65)"));
+  }
+
+  @Test
+  void should_print_line_numbers_of_failed_assertions_with_deferred_error_messages() {
+    // GIVEN
+    Assertions.setDeferErrorMessages(true);
+    try {
+      SoftAssertions softly = new SoftAssertions();
+      softly.assertThat(1).isLessThan(0);
+      // WHEN
+      AssertionError error = expectAssertionError(softly::assertAll);
+      // THEN
+      assertThat(error).hasMessageContaining(format("%n"
+                                                    + "Expecting actual:%n"
+                                                    + "  1%n"
+                                                    + "to be less than:%n"
+                                                    + "  0 %n"
+                                                    + "at SoftAssertionsLineNumberTest.should_print_line_numbers_of_failed_assertions_with_deferred_error_messages(SoftAssertionsLineNumberTest.java:91)"));
+    } finally {
+      Assertions.setDeferErrorMessages(false);
+    }
   }
 
 }
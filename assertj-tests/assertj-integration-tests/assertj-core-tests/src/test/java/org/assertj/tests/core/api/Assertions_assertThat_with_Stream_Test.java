@@ -17,11 +17,19 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.tests.core.testkit.StringStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class Assertions_assertThat_with_Stream_Test {
 
@@ -46,6 +54,21 @@ class Assertions_assertThat_with_Stream_Test {
                      .containsExactly("Luke", "Leia");
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = { "UTF-8", "ISO-8859-1" })
+  void should_chain_assertions_on_the_lines_of_a_file(String charsetName, @TempDir Path tempDir) throws IOException {
+    // GIVEN
+    Charset charset = Charset.forName(charsetName);
+    Path file = Files.write(tempDir.resolve("lines.txt"), IntStream.range(0, 200_000).mapToObj(String::valueOf).toList(),
+                            charset);
+    // WHEN/THEN
+    try (Stream<String> lines = Files.lines(file, charset)) {
+      assertThat(lines).isNotEmpty()
+                       .contains("10")
+                       .hasSize(200_000);
+    }
+  }
+
   @Test
   void should_not_consume_stream_when_asserting_non_null() {
     Stream<?> stream = mock();
@@ -23,21 +23,25 @@ import static org.assertj.tests.core.testkit.ObjectArrays.emptyArray;
 import java.util.stream.Stream;
 
 import org.assertj.tests.core.testkit.CaseInsensitiveStringComparator;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 class Assertions_assertThat_with_Stream_startsWith_Test {
 
   Stream<String> infiniteStream = Stream.generate(() -> "");
 
-  // TODO it is not possible for startsWith to support both infinite streams and assertion chaining
-  // assertion chaining has been chosen over infinite streams support
   @Test
-  @Disabled
   void startsWith_should_work_with_infinite_streams() {
     assertThat(infiniteStream).startsWith("", "");
   }
 
+  @Test
+  void should_allow_chaining_assertions_after_startsWith_on_infinite_streams() {
+    Stream<Integer> naturalNumbers = Stream.iterate(0, i -> i + 1);
+    assertThat(naturalNumbers).startsWith(0, 1)
+                              .startsWith(0, 1, 2)
+                              .contains(10);
+  }
+
   @Test
   void should_reuse_stream_after_assertion() {
     Stream<String> names = Stream.of("Luke", "Leia");
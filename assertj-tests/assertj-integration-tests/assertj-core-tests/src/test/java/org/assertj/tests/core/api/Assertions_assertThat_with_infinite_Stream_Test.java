@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Assertions decided by the first elements of a stream should not consume the rest of it.
+ */
+@Timeout(5)
+class Assertions_assertThat_with_infinite_Stream_Test {
+
+  private final AtomicInteger pulledElementsCount = new AtomicInteger();
+  private final Stream<Integer> naturalNumbers = Stream.iterate(0, i -> i + 1).peek(i -> pulledElementsCount.incrementAndGet());
+
+  @Test
+  void should_pull_elements_until_one_matches() {
+    // WHEN
+    assertThat(naturalNumbers).anyMatch(i -> i == 10)
+                              .anySatisfy(i -> assertThat(i).isEqualTo(20));
+    // THEN
+    then(pulledElementsCount).hasValue(21);
+  }
+
+  @Test
+  void should_pull_elements_until_all_values_are_found() {
+    // WHEN
+    assertThat(naturalNumbers).contains(5, 3)
+                              .containsAnyOf(-1, 8);
+    // THEN
+    then(pulledElementsCount).hasValue(9);
+  }
+
+  @Test
+  void should_pull_only_the_navigated_elements() {
+    // WHEN
+    assertThat(naturalNumbers).isNotEmpty()
+                              .element(4)
+                              .isEqualTo(4);
+    // THEN
+    then(pulledElementsCount).hasValue(5);
+  }
+
+  @Test
+  void should_pull_first_element_only() {
+    // WHEN
+    assertThat(naturalNumbers).first()
+                              .isEqualTo(0);
+    // THEN
+    then(pulledElementsCount).hasValue(1);
+  }
+
+  @Test
+  void should_support_infinite_primitive_streams() {
+    assertThat(IntStream.iterate(0, i -> i + 1)).startsWith(0, 1).contains(100);
+    assertThat(LongStream.iterate(0, i -> i + 1)).anyMatch(i -> i == 100L);
+    assertThat(DoubleStream.iterate(0, d -> d + 0.5)).contains(1.5);
+  }
+
+  @Test
+  void should_support_infinite_iterators() {
+    // GIVEN
+    Iterator<Integer> iterator = Stream.iterate(0, i -> i + 1).iterator();
+    // WHEN/THEN
+    assertThat(iterator).toIterable()
+                        .startsWith(0, 1)
+                        .contains(100);
+  }
+
+  @Test
+  void should_consume_the_whole_stream_when_needed() {
+    // GIVEN
+    Stream<Integer> numbers = Stream.of(1, 2, 3).peek(i -> pulledElementsCount.incrementAndGet());
+    // WHEN
+    assertThat(numbers).startsWith(1)
+                       .hasSize(3)
+                       .containsExactly(1, 2, 3);
+    // THEN
+    then(pulledElementsCount).hasValue(3);
+  }
+
+  @Test
+  void should_not_close_the_stream_before_it_is_exhausted() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    Stream<Integer> stream = naturalNumbers.onClose(() -> closed.set(true));
+    // WHEN
+    assertThat(stream).anyMatch(i -> i == 2)
+                      .contains(5);
+    // THEN
+    then(closed).isFalse();
+    then(pulledElementsCount).hasValue(6);
+  }
+
+}
@@ -18,6 +18,8 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
@@ -61,7 +63,7 @@ class InputStreamAssert_hasBinaryContent_Test {
     InputStream actual = mock();
     byte[] expected = new byte[0];
     IOException cause = new IOException();
-    given(actual.read()).willThrow(cause);
+    given(actual.readNBytes(any(byte[].class), anyInt(), anyInt())).willThrow(cause);
     // WHEN
     Exception exception = catchException(() -> assertThat(actual).hasBinaryContent(expected));
     // THEN
@@ -112,7 +114,8 @@ class InputStreamAssert_hasBinaryContent_Test {
     AssertionError assertionError = expectAssertionError(() -> assertThat(actual).hasBinaryContent(expected));
     // THEN
     then(assertionError).hasMessage(shouldHaveBinaryContent(actual, diff("12345", "67890")).create());
-    then(actual.read()).isEqualTo('2');
+    // the content is compared block by block
+    then(actual).isEmpty();
   }
 
   private static BinaryDiffResult diff(String actual, String expected) {
@@ -69,6 +69,20 @@ class RecursiveComparisonConfiguration_shouldIgnoreCollectionOrder_Test {
     assertThat(fields).containsExactly("foo", "bar", "foo.bar");
   }
 
+  @Test
+  void should_take_into_account_fields_and_regexes_registered_after_a_first_check() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("foo");
+    assertThat(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation("bar"))).isFalse();
+    assertThat(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation("baz"))).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("bar");
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFieldsMatchingRegexes("b.z");
+    // THEN
+    assertThat(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation("bar"))).isTrue();
+    assertThat(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation("baz"))).isTrue();
+  }
+
   @ParameterizedTest(name = "{0} collection order should be ignored with these fields {1}")
   @MethodSource
   void should_ignore_collection_order_in_specified_fields(FieldLocation fieldLocation, String[] ignoredFields) {
@@ -128,6 +128,20 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
                      arguments(dualValueWithPath("father", "name", "first"), list("father", "name.first", "father.name.first")));
   }
 
+  @Test
+  void should_take_into_account_fields_and_regexes_ignored_after_a_first_check() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("foo");
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValueWithPath("bar"))).isFalse();
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValueWithPath("baz"))).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFields("bar");
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("b.z");
+    // THEN
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValueWithPath("bar"))).isTrue();
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValueWithPath("baz"))).isTrue();
+  }
+
   @ParameterizedTest(name = "{0} should not be ignored with these ignored fields {1}")
   @MethodSource
   void should_not_ignore_specified_fields(DualValue dualValue, List<String> ignoredFields) {
@@ -551,4 +551,61 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                                      "  [Item(Shoes, 2)]"));
   }
 
+  @Test
+  void should_fail_when_an_actual_element_would_have_to_match_several_expected_elements() {
+    // GIVEN
+    List<Article> actualArticles = list(new Article("Shoes"), new Article("Pants"));
+    List<Article> expectedArticles = list(new Article("Shoes"), new Article("Shoes"));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actualArticles).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                                         .ignoringCollectionOrder()
+                                                                                         .isEqualTo(expectedArticles));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [Article[name=Shoes]]"));
+  }
+
+  record Article(String name) {
+  }
+
+  @Test
+  void should_fail_when_actual_has_less_duplicates_than_expected() {
+    // GIVEN
+    List<String> actual = list("a", "b");
+    List<String> expected = list("a", "a");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                                 .ignoringCollectionOrder()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [\"a\"]"));
+  }
+
+  @Test
+  void should_fail_when_actual_has_more_duplicates_than_expected() {
+    // GIVEN
+    List<String> actual = list("a", "a");
+    List<String> expected = list("a", "b");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                                 .ignoringCollectionOrder()
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("The following expected elements were not matched in the actual ArrayList:%n" +
+                                                     "  [\"b\"]"));
+  }
+
+  @Test
+  void should_pass_when_elements_only_differ_by_ignored_fields_used_in_their_hash_code() {
+    // GIVEN
+    List<Item> actualItems = list(new Item("Shoes", 1), new Item("Pants", 2), new Item("Shirt", 3));
+    List<Item> expectedItems = list(new Item("Shirt", 4), new Item("Shoes", 5), new Item("Pants", 6));
+    // WHEN/THEN
+    then(actualItems).usingRecursiveComparison(recursiveComparisonConfiguration)
+                     .ignoringCollectionOrder()
+                     .ignoringFields("quantity")
+                     .isEqualTo(expectedItems);
+  }
+
 }
@@ -60,6 +60,18 @@ class ComparingProperties_getChildNodeValue_Test {
     then(COMPARING_PROPERTIES.getChildNodeValue("char", node)).isEqualTo('x');
   }
 
+  @Test
+  void getChildNodeValue_should_report_the_exception_thrown_by_the_getter() {
+    // GIVEN
+    Properties node = new Properties();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> COMPARING_PROPERTIES.getChildNodeValue("failing", node));
+    // THEN
+    then(throwable).isInstanceOf(IntrospectionError.class)
+                   .hasMessage("Unable to invoke getter getFailing in Properties, exception: java.lang.IllegalStateException: boom");
+    then(((IntrospectionError) throwable).getterInvocationException()).containsInstanceOf(IllegalStateException.class);
+  }
+
   @SuppressWarnings("unused")
   static class Properties {
 
@@ -130,5 +142,9 @@ class ComparingProperties_getChildNodeValue_Test {
     public char getChar() {
       return 'x';
     }
+
+    public Object getFailing() {
+      throw new IllegalStateException("boom");
+    }
   }
 }
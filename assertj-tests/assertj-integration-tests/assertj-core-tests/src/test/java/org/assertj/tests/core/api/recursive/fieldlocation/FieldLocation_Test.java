@@ -31,6 +31,10 @@ class FieldLocation_Test {
   void should_honor_equals_contract() {
     // WHEN/THEN
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("red"), new FieldLocation("blue"))
+                  .withCachedHashCode("hashCode", "computeHashCode", new FieldLocation("name.first"))
+                  // lazily computed from the parent and field name
+                  .withIgnoredFields("pathToUseInRules", "decomposedPath")
                   .verify();
   }
 
@@ -75,6 +79,19 @@ class FieldLocation_Test {
     then(underTest.getDecomposedPath()).isEqualTo(list("name", "first", "second"));
   }
 
+  @Test
+  void should_be_equal_to_field_location_built_from_the_same_path() {
+    // GIVEN
+    FieldLocation builtFromParent = new FieldLocation("name").field("[0]").field("first");
+    FieldLocation builtFromPath = new FieldLocation(list("name", "[0]", "first"));
+    // WHEN/THEN
+    then(builtFromParent).isEqualTo(builtFromPath)
+                         .hasSameHashCodeAs(builtFromPath)
+                         .isNotEqualTo(new FieldLocation(list("name", "[1]", "first")))
+                         .isNotEqualTo(new FieldLocation(list("name", "first")));
+    then(builtFromParent.getPathToUseInErrorReport()).isEqualTo("name.[0].first");
+  }
+
   @Test
   void should_build_from_long_nested_path_in_reasonable_time() {
     // WHEN
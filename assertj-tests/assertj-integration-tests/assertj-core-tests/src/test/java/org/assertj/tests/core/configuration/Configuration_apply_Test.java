@@ -49,6 +49,8 @@ class Configuration_apply_Test {
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
+    then(Failures.instance().isDeferErrorMessages()).isEqualTo(configuration.deferErrorMessagesEnabled());
+    then(StandardRepresentation.getMaxFailuresDisplayed()).isEqualTo(configuration.maxFailuresDisplayed());
     // check lenient is honored by parsing a string that would fail if the DateFormat was not lenient.
     then(configuration.lenientDateParsingEnabled()).isTrue();
     Date dateTime = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2001-02-03T04:05:06");
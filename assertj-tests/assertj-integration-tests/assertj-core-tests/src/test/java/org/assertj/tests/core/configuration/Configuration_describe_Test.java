@@ -53,6 +53,8 @@ class Configuration_describe_Test {
                                        "- maxLengthForSingleLineDescription ............... = 81%n" +
                                        "- maxElementsForPrinting .......................... = 1001%n" +
                                        "- maxStackTraceElementsDisplayed................... = 4%n" +
+                                       "- deferErrorMessagesEnabled ....................... = true%n" +
+                                       "- maxFailuresDisplayed ............................ = 10%n" +
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
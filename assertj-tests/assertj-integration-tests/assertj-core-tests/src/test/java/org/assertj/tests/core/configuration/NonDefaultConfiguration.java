@@ -71,6 +71,16 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxStackTraceElementsDisplayed() + 1;
   }
 
+  @Override
+  public boolean deferErrorMessagesEnabled() {
+    return !super.deferErrorMessagesEnabled();
+  }
+
+  @Override
+  public int maxFailuresDisplayed() {
+    return 10;
+  }
+
   @Override
   public List<DateFormat> additionalDateFormats() {
     return List.of(DATE_FORMAT1, DATE_FORMAT2);
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.assertj.core.internal.BinaryDiff;
 import org.assertj.core.internal.BinaryDiffResult;
@@ -79,6 +80,34 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_first_diff_if_inputstreams_differ_after_several_blocks() throws IOException {
+    byte[] expectedContent = new byte[1_000_000];
+    byte[] actualContent = expectedContent.clone();
+    actualContent[700_000] = (byte) 0xFE;
+    actualContent[800_000] = (byte) 0xFE;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(700_000);
+    assertThat(result.actual).isEqualTo("0xFE");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  void should_return_diff_offset_beyond_2GB() throws IOException {
+    long size = Integer.MAX_VALUE + 10L;
+    long differenceOffset = Integer.MAX_VALUE + 5L;
+    actual = new ZerosInputStream(size, differenceOffset);
+    expected = new ZerosInputStream(size, -1);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(differenceOffset);
+    assertThat(result.actual).isEqualTo("0x1");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -86,4 +115,33 @@ class BinaryDiff_diff_InputStream_Test {
     }
     return new ByteArrayInputStream(byteContents);
   }
+
+  // a stream of zeros except for a 1 at the given offset, large contents don't have to be held in memory.
+  // It does not support marking and can only be read by block, like the streams the diff must compare block by block.
+  private static class ZerosInputStream extends InputStream {
+
+    private final long size;
+    private final long oneOffset;
+    private long position;
+
+    ZerosInputStream(long size, long oneOffset) {
+      this.size = size;
+      this.oneOffset = oneOffset;
+    }
+
+    @Override
+    public int read() {
+      throw new UnsupportedOperationException("should be read by block");
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (position == size) return -1;
+      int readLength = (int) Math.min(length, size - position);
+      Arrays.fill(bytes, offset, offset + readLength, (byte) 0);
+      if (oneOffset >= position && oneOffset < position + readLength) bytes[offset + (int) (oneOffset - position)] = 1;
+      position += readLength;
+      return readLength;
+    }
+  }
 }
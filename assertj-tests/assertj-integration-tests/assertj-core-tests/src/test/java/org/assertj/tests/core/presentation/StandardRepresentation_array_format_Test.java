@@ -296,6 +296,30 @@ class StandardRepresentation_array_format_Test extends AbstractBaseRepresentatio
                                                                                                                     "    20]>"));
   }
 
+  @Test
+  void should_format_array_with_the_overridden_single_line_and_multi_line_formats() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] array, Object root) {
+        return "single line " + super.singleLineFormat(array, root);
+      }
+
+      @Override
+      protected String multiLineFormat(Object[] array, Object root) {
+        return "multi line " + super.multiLineFormat(array, root);
+      }
+    };
+    String longElement = "a".repeat(StandardRepresentation.getMaxLengthForSingleLineDescription());
+    // WHEN
+    String shortDescription = representation.toStringOf(array(1, 2));
+    String longDescription = representation.toStringOf(array(longElement, longElement));
+    // THEN
+    then(shortDescription).isEqualTo("single line [1, 2]");
+    then(longDescription).isEqualTo(format("multi line [\"" + longElement + "\",%n" +
+                                           "    \"" + longElement + "\"]"));
+  }
+
   private record Person(String name) {
 
     @Override
@@ -29,8 +29,10 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.nio.file.DirectoryStream;
 import java.nio.file.SecureDirectoryStream;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -272,6 +274,64 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(countMatches(formatted, "0")).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING * elementsPerArray);
   }
 
+  @Test
+  void should_only_read_the_displayed_elements_of_a_random_access_list() {
+    // GIVEN
+    ElementsReadCountingList list = new ElementsReadCountingList(1_000_000);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).startsWith(format("[0,%n    1,%n"))
+                   .endsWith(format("999999]"));
+    // the displayed elements are read once by the single line attempt and once by the multi line format
+    then(list.elementsReadCount).isEqualTo(2 * Configuration.MAX_ELEMENTS_FOR_PRINTING);
+  }
+
+  @Test
+  void should_format_iterable_with_the_overridden_single_line_and_multi_line_formats() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return "single line " + super.singleLineFormat(iterable, start, end);
+      }
+
+      @Override
+      protected String multiLineFormat(Iterable<?> iterable) {
+        return "multi line " + super.multiLineFormat(iterable);
+      }
+    };
+    String longElement = stringOfLength(StandardRepresentation.getMaxLengthForSingleLineDescription());
+    // WHEN
+    String shortDescription = representation.toStringOf(list(1, 2));
+    String longDescription = representation.toStringOf(list(longElement, longElement));
+    // THEN
+    then(shortDescription).isEqualTo("single line [1, 2]");
+    then(longDescription).isEqualTo(format("multi line [\"" + longElement + "\",%n" +
+                                           "    \"" + longElement + "\"]"));
+  }
+
+  private static class ElementsReadCountingList extends AbstractList<Integer> implements RandomAccess {
+
+    private final int size;
+    private int elementsReadCount;
+
+    ElementsReadCountingList(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public Integer get(int index) {
+      elementsReadCount++;
+      return index;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
   private static String stringOfLength(int length) {
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
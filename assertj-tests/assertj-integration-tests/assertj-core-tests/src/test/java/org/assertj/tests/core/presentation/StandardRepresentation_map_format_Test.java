@@ -12,15 +12,19 @@
  */
 package org.assertj.tests.core.presentation;
 
+import static java.util.Comparator.reverseOrder;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import java.io.File;
+import java.math.BigDecimal;
 import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.jupiter.api.Test;
@@ -74,6 +78,57 @@ class StandardRepresentation_map_format_Test extends AbstractBaseRepresentationT
     then(mapRepresentation).isEqualTo("{'A'=1, 'B'=2, ...}");
   }
 
+  @Test
+  void should_format_the_smallest_keys_of_a_large_Map_up_to_the_maximum_allowed_elements() {
+    // GIVEN
+    Map<Integer, Integer> map = new HashMap<>();
+    for (int i = 9_999; i >= 0; i--) {
+      map.put(i, i);
+    }
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).isEqualTo("{0=0, 1=1, 2=2, ...}");
+  }
+
+  @Test
+  void should_keep_the_order_of_a_SortedMap() {
+    // GIVEN
+    Map<Character, Integer> map = new TreeMap<>(reverseOrder());
+    map.put('A', 1);
+    map.put('B', 2);
+    map.put('C', 3);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).isEqualTo("{'C'=3, 'B'=2, 'A'=1}");
+  }
+
+  @Test
+  void should_format_Map_with_keys_comparing_equal_but_not_equal() {
+    // GIVEN
+    Map<BigDecimal, Integer> map = new HashMap<>();
+    map.put(new BigDecimal("1.0"), 1);
+    map.put(new BigDecimal("1.00"), 1);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).matches("\\{1\\.00?=1}");
+  }
+
+  @Test
+  void should_format_IdentityHashMap_with_equal_keys() {
+    // GIVEN
+    Map<String, Integer> map = new IdentityHashMap<>();
+    map.put(new String("k"), 1);
+    map.put(new String("k"), 1);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).isEqualTo("{\"k\"=1}");
+  }
+
   @Test
   void should_format_Map_containing_itself() {
     // GIVEN
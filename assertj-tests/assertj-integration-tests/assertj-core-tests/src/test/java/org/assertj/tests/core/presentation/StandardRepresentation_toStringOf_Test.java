@@ -654,6 +654,24 @@ class StandardRepresentation_toStringOf_Test extends AbstractBaseRepresentationT
     then(toString).isEqualTo("[\"abc\", \"def\"]");
   }
 
+  @Test
+  void should_use_the_toStringOf_methods_overridden_by_a_subclass_for_types_already_represented() {
+    // GIVEN
+    Object string = "abc";
+    then(STANDARD_REPRESENTATION.toStringOf(string)).isEqualTo("\"abc\"");
+    StandardRepresentation singleQuotesRepresentation = new StandardRepresentation() {
+      @Override
+      protected String toStringOf(String s) {
+        return "'%s'".formatted(s);
+      }
+    };
+    // WHEN
+    String toString = singleQuotesRepresentation.toStringOf(list(string, 1L));
+    // THEN
+    then(toString).isEqualTo("['abc', 1L]");
+    then(STANDARD_REPRESENTATION.toStringOf(string)).isEqualTo("\"abc\"");
+  }
+
   static class VolatileSizeArrayList<T> extends AtomicInteger implements List<T> {
 
     @Serial
@@ -13,4 +13,5 @@
 open module org.assertj.tests.core.perf {
   requires org.assertj.core;
   requires org.junit.jupiter.api;
+  requires org.junit.jupiter.params;
 }
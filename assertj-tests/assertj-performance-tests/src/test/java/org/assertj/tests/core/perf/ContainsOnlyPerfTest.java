@@ -14,6 +14,7 @@ package org.assertj.tests.core.perf;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static java.util.Collections.reverse;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
@@ -60,4 +61,28 @@ class ContainsOnlyPerfTest {
                        .containsOnly(0, 1);
   }
 
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_100kDistinctElements() {
+    final ArrayList<Integer> objects = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      objects.add(i);
+    }
+    final ArrayList<Integer> reversed = new ArrayList<>(objects);
+    reverse(reversed);
+    assertThat(objects).containsOnly(reversed.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_100kDistinctElements() {
+    final ArrayList<Integer> objects = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      objects.add(i);
+    }
+    final ArrayList<Integer> reversed = new ArrayList<>(objects);
+    reverse(reversed);
+    assertThat(objects).containsExactlyInAnyOrderElementsOf(reversed);
+  }
+
 }
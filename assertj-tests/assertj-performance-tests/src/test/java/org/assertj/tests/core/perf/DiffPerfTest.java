@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
+import org.assertj.core.util.diff.myers.MyersDiff;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * These tests compare the linear space Myers diff with the original implementation which keeps a path node per explored
+ * point, and ensure that diffing textual contents with little in common stops once too many differences are found.
+ */
+class DiffPerfTest {
+
+  private static final int LINE_COUNT = 200_000;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @Timeout(value = 10)
+  void test_linear_space_myers_diff_200kLines_with_200_differences() {
+    List<String> original = lines(i -> "line " + i);
+    List<String> revised = lines(i -> i % 1_000 == 0 ? "changed line " + i : "line " + i);
+    Patch<String> patch = DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>());
+    assertThat(patch.getDeltas()).hasSize(LINE_COUNT / 1_000);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_myers_diff_200kLines_with_200_differences() {
+    List<String> original = lines(i -> "line " + i);
+    List<String> revised = lines(i -> i % 1_000 == 0 ? "changed line " + i : "line " + i);
+    Patch<String> patch = DiffUtils.diff(original, revised, new MyersDiff<>());
+    assertThat(patch.getDeltas()).hasSize(LINE_COUNT / 1_000);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameTextualContentAs_200kLines_all_different() throws IOException {
+    Path actual = Files.write(tempDir.resolve("actual.log"), lines(i -> "actual line " + i), UTF_8);
+    Path expected = Files.write(tempDir.resolve("expected.log"), lines(i -> "expected line " + i), UTF_8);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual).hasSameTextualContentAs(expected))
+                                                   .withMessageContaining("Changed content at line 1");
+  }
+
+  private static List<String> lines(IntFunction<String> lineFactory) {
+    List<String> lines = new ArrayList<>(LINE_COUNT);
+    for (int i = 0; i < LINE_COUNT; i++) {
+      lines.add(lineFactory.apply(i));
+    }
+    return lines;
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure extracting properties from large collections resolves each getter once per class and invokes it once
+ * per element.
+ * <p>
+ * Extracting a field or a map value by name should not build and throw an exception per element because no property is named
+ * that way.
+ */
+class ExtractingPerfTest {
+
+  private static final int SIZE = 1_000_000;
+
+  @Test
+  @Timeout(value = 10)
+  void should_extract_nested_properties_of_1M_elements() {
+    // GIVEN
+    List<Person> persons = persons();
+    // WHEN/THEN
+    assertThat(persons).extracting("name.first")
+                       .hasSize(SIZE)
+                       .contains("first-0", "first-999999");
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void should_invoke_getters_once_per_element() {
+    // GIVEN
+    List<Person> persons = persons();
+    // WHEN
+    assertThat(persons).extracting("name")
+                       .hasSize(SIZE);
+    // THEN
+    assertThat(persons).allMatch(person -> person.nameGetterInvocations == 1);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void should_extract_fields_of_1M_elements() {
+    // GIVEN
+    List<Person> persons = persons();
+    // WHEN/THEN
+    assertThat(persons).extracting("nameGetterInvocations")
+                       .hasSize(SIZE)
+                       .containsOnly(0);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void should_extract_map_values_of_1M_elements() {
+    // GIVEN
+    List<Map<String, Integer>> maps = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      maps.add(Map.of("id", i));
+    }
+    // WHEN/THEN
+    assertThat(maps).extracting("id")
+                    .hasSize(SIZE)
+                    .contains(0, SIZE - 1);
+  }
+
+  private static List<Person> persons() {
+    List<Person> persons = new ArrayList<>(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      persons.add(new Person(new Name("first-" + i)));
+    }
+    return persons;
+  }
+
+  public static class Person {
+    private final Name name;
+    private int nameGetterInvocations;
+
+    Person(Name name) {
+      this.name = name;
+    }
+
+    public Name getName() {
+      nameGetterInvocations++;
+      return name;
+    }
+  }
+
+  public static class Name {
+    private final String first;
+
+    Name(String first) {
+      this.first = first;
+    }
+
+    public String getFirst() {
+      return first;
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure assertions on large primitive arrays read the elements directly instead of boxing each of them, with 10
+ * million elements the assertions below should take at most a few hundred milliseconds.
+ */
+class PrimitiveArraysPerfTest {
+
+  private static final int SIZE = 10_000_000;
+
+  private static int[] ints;
+  private static long[] longs;
+  private static double[] doubles;
+
+  @BeforeAll
+  static void createArrays() {
+    ints = IntStream.range(0, SIZE).toArray();
+    longs = LongStream.range(0, SIZE).toArray();
+    doubles = IntStream.range(0, SIZE).asDoubleStream().toArray();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_10mInts() {
+    assertThat(ints).contains(SIZE - 1, SIZE / 2, 0);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_10mLongs() {
+    assertThat(longs).containsSequence(SIZE - 3, SIZE - 2, SIZE - 1);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSubsequence_10mDoubles() {
+    assertThat(doubles).containsSubsequence(0d, SIZE / 2d, SIZE - 1d);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSorted_10mDoubles() {
+    assertThat(doubles).isSorted();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_10mInts() {
+    assertThat(ints).containsExactly(ints.clone());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_10mLongs() {
+    assertThat(longs).containsOnly(longs.clone());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_10mInts() {
+    assertThat(ints).doesNotHaveDuplicates();
+  }
+
+}
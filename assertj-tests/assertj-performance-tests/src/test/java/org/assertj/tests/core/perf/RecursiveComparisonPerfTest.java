@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.recursive.comparison.ComparingProperties.COMPARING_PROPERTIES;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * These tests ensure the recursive comparison tracks visited nodes in O(1) rather than O(N), the whole comparison being
+ * O(N) and not O(N^2) with N being the number of nodes in the compared graphs.
+ * <p>
+ * With an O(N^2) visited nodes lookup, comparing graphs of 200k nodes takes minutes, the 30 seconds limit used below
+ * clearly distinguishes both complexities.
+ * <p>
+ * The same goes for collections compared ignoring their order, expected elements should be matched against the actual
+ * elements most likely to match them instead of all of them.
+ * <p>
+ * Ignored fields rules are evaluated once per path to use in rules, the number of ignored fields regexes should not
+ * multiply the comparison time by the number of nodes.
+ * <p>
+ * Fields and properties of wide objects are read with accessors resolved once per class, not looked up by name for each
+ * compared object.
+ */
+class RecursiveComparisonPerfTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = { 1_000, 10_000, 100_000, 200_000 })
+  @Timeout(value = 30)
+  void should_compare_large_object_graphs_recursively(int size) {
+    // GIVEN
+    Graph actual = graphOf(size);
+    Graph expected = graphOf(size);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void should_compare_large_collections_ignoring_order() {
+    // GIVEN
+    List<Node> actual = graphOf(50_000).nodes;
+    List<Node> expected = new ArrayList<>(graphOf(50_000).nodes);
+    Collections.reverse(expected);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void should_compare_large_object_graphs_with_many_ignored_fields_regexes() {
+    // GIVEN
+    Graph actual = graphOf(200_000);
+    Graph expected = graphOf(200_000);
+    String[] regexes = IntStream.range(0, 40).mapToObj(i -> ".*ignored" + i).toArray(String[]::new);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringFieldsMatchingRegexes(regexes)
+                      .ignoringCollectionOrderInFieldsMatchingRegexes(regexes)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void should_compare_many_wide_objects_field_by_field() {
+    // GIVEN
+    List<WideDto> actual = wideDtos(200_000);
+    List<WideDto> expected = wideDtos(200_000);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void should_compare_many_wide_objects_property_by_property() {
+    // GIVEN
+    List<WideDto> actual = wideDtos(200_000);
+    List<WideDto> expected = wideDtos(200_000);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withIntrospectionStrategy(COMPARING_PROPERTIES)
+                      .isEqualTo(expected);
+  }
+
+  private static List<WideDto> wideDtos(int size) {
+    List<WideDto> dtos = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      dtos.add(new WideDto(i));
+    }
+    return dtos;
+  }
+
+  private static Graph graphOf(int size) {
+    List<Node> nodes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      // nodes reference another node (keeping the graph shallow), they are visited as list element and as neighbour
+      Node neighbour = i == 0 ? null : nodes.get(i / 2);
+      nodes.add(new Node("node-" + i, neighbour));
+    }
+    return new Graph(nodes);
+  }
+
+  static class Graph {
+    final List<Node> nodes;
+
+    Graph(List<Node> nodes) {
+      this.nodes = nodes;
+    }
+  }
+
+  static class Node {
+    final String name;
+    final Node neighbour;
+
+    Node(String name, Node neighbour) {
+      this.name = name;
+      this.neighbour = neighbour;
+    }
+  }
+
+  public static class WideDto {
+    private final int id;
+    private final String name;
+    private final long count;
+    private final double ratio;
+    private final boolean active;
+    private final String street;
+    private final String city;
+    private final String country;
+    private final int zipCode;
+    private final String email;
+    private final String phone;
+    private final long createdAt;
+
+    WideDto(int id) {
+      this.id = id;
+      this.name = "name-" + id;
+      this.count = id * 2L;
+      this.ratio = id / 2.0;
+      this.active = id % 2 == 0;
+      this.street = "street-" + id;
+      this.city = "city-" + id % 100;
+      this.country = "country-" + id % 10;
+      this.zipCode = id % 100_000;
+      this.email = "user" + id + "@example.com";
+      this.phone = "+33" + id;
+      this.createdAt = 1_000_000L + id;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getRatio() {
+      return ratio;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public String getStreet() {
+      return street;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+    public String getCountry() {
+      return country;
+    }
+
+    public int getZipCode() {
+      return zipCode;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public String getPhone() {
+      return phone;
+    }
+
+    public long getCreatedAt() {
+      return createdAt;
+    }
+  }
+
+}
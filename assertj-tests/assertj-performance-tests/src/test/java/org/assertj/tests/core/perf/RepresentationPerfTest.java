@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure representing large lists only reads the displayed elements and representing large maps only sorts the
+ * displayed entries.
+ */
+class RepresentationPerfTest {
+
+  @Test
+  @Timeout(value = 1)
+  void should_represent_a_50M_elements_list() {
+    // GIVEN
+    List<String> list = nCopies(50_000_000, "element");
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    assertThat(representation).contains("...");
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void should_represent_a_1M_entries_map() {
+    // GIVEN
+    Map<String, Integer> map = new HashMap<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      map.put("key-" + i, i);
+    }
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    assertThat(representation).startsWith("{\"key-0\"=0, \"key-1\"=1, \"key-10\"=10")
+                              .endsWith(", ...}");
+  }
+
+}
@@ -61,6 +61,11 @@ import org.junit.jupiter.api.Test;
 @Disabled
 class SoftAssertionsPerfTest {
 
+  // soft assertions per benchmark iteration
+  private static final int SOFT_ASSERTIONS_COUNT = 10_000;
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int MEASURED_ITERATIONS = 10;
+
   private SoftAssertions softly;
 
   private CartoonCharacter homer;
@@ -143,6 +148,57 @@ class SoftAssertionsPerfTest {
     softly.assertAll();
   }
 
+  // average time per soft assertion:
+  // stack walk to detect nested calls, synchronized collector: succeeding ~0.8µs, failing ~60µs, nested failing ~75µs
+  // per thread depth counter, lock-free collector: succeeding ~0.8µs, failing ~15µs, nested failing ~38µs
+  @Test
+  void benchmark_succeeding_soft_assertions() {
+    benchmark("succeeding", () -> {
+      SoftAssertions softAssertions = new SoftAssertions();
+      for (int i = 0; i < SOFT_ASSERTIONS_COUNT; i++) {
+        softAssertions.assertThat(i).isEqualTo(i);
+      }
+      softAssertions.assertAll();
+    });
+  }
+
+  @Test
+  void benchmark_failing_soft_assertions() {
+    benchmark("failing", () -> {
+      SoftAssertions softAssertions = new SoftAssertions();
+      for (int i = 0; i < SOFT_ASSERTIONS_COUNT; i++) {
+        softAssertions.assertThat(i).isEqualTo(i + 1);
+      }
+      // don't report the collected errors, decorating them with their line number is not what is measured here
+      assertThat(softAssertions.wasSuccess()).isFalse();
+    });
+  }
+
+  @Test
+  void benchmark_failing_nested_soft_assertions() {
+    benchmark("nested failing", () -> {
+      SoftAssertions softAssertions = new SoftAssertions();
+      for (int i = 0; i < SOFT_ASSERTIONS_COUNT; i++) {
+        softAssertions.assertThat(false).isTrue(); // isTrue() calls isEqualTo(true)
+      }
+      // don't report the collected errors, decorating them with their line number is not what is measured here
+      assertThat(softAssertions.wasSuccess()).isFalse();
+    });
+  }
+
+  private static void benchmark(String description, Runnable softAssertions) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      softAssertions.run();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      softAssertions.run();
+    }
+    long duration = System.nanoTime() - start;
+    System.out.printf("%s soft assertions: %dns per assertion%n", description,
+                      duration / ((long) MEASURED_ITERATIONS * SOFT_ASSERTIONS_COUNT));
+  }
+
   @Test
   void should_return_success_of_last_assertion() {
     softly.assertThat(true).isFalse();
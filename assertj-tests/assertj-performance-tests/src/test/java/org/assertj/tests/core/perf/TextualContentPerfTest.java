@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2025 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * These tests ensure comparing the textual content of large files only runs the diff algorithm on the lines that differ.
+ */
+class TextualContentPerfTest {
+
+  private static final int LINE_COUNT = 3_000_000;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameTextualContentAs_3mLines() throws IOException {
+    Path actual = writeLines(tempDir.resolve("actual.log"), -1);
+    Path expected = writeLines(tempDir.resolve("expected.log"), -1);
+    assertThat(actual).hasSameTextualContentAs(expected);
+  }
+
+  @Test
+  @Timeout(value = 10)
+  void test_hasSameTextualContentAs_3mLines_differing_on_one_line() throws IOException {
+    Path actual = writeLines(tempDir.resolve("actual.log"), LINE_COUNT / 2);
+    Path expected = writeLines(tempDir.resolve("expected.log"), -1);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> assertThat(actual).hasSameTextualContentAs(expected))
+                                                   .withMessageContaining("Changed content at line " + (LINE_COUNT / 2 + 1));
+  }
+
+  private static Path writeLines(Path path, int differingLineIndex) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(path, UTF_8)) {
+      for (int i = 0; i < LINE_COUNT; i++) {
+        writer.write(i == differingLineIndex ? "differing line" : "log line " + i);
+        writer.newLine();
+      }
+    }
+    return path;
+  }
+
+}